@@ -0,0 +1,40 @@
+package com.withme.api.benchmark;
+
+import com.withme.api.service.LikeCommandBuffer;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 좋아요 버퍼 처리량 벤치마크 (요청 스레드에서 버퍼에 넣는 비용, DB 반영 제외)
+ * NOTE 인기 팀 100개에 사용자 10만 명이 좋아요/토글하는 상황을 8 스레드로 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class LikeCommandBufferBenchmark {
+
+    private static final int TEAM_COUNT = 100;
+    private static final int USER_COUNT = 100_000;
+
+    private LikeCommandBuffer likeCommandBuffer;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        likeCommandBuffer = new LikeCommandBuffer(null, null, null, true, Integer.MAX_VALUE, 60);
+    }
+
+    @Benchmark
+    public Boolean likeTeam() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return likeCommandBuffer.offerTeamLike((long) random.nextInt(TEAM_COUNT), (long) random.nextInt(USER_COUNT), true, () -> false);
+    }
+
+    @Benchmark
+    public Boolean toggleTeamLike() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return likeCommandBuffer.offerTeamLike((long) random.nextInt(TEAM_COUNT), (long) random.nextInt(USER_COUNT), null, () -> false);
+    }
+}
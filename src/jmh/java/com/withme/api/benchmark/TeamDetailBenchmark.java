@@ -0,0 +1,102 @@
+package com.withme.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.withme.api.controller.dto.TeamCommentResponseDto;
+import com.withme.api.controller.dto.TeamDetailResponseDto;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.teamComment.TeamComment;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀 상세 응답 구성 벤치마크 (엔티티 -> DTO, 캐시 스냅샷 복사, JSON 직렬화)
+ * NOTE 요청마다 전체 팀 중 임의의 팀을 조회 (팀 수가 늘면 캐시 적중률이 떨어지는 영향 포함), 댓글은 첫 페이지 20건
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamDetailBenchmark {
+
+    private static final int COMMENT_PAGE_SIZE = 20;
+    // NOTE 댓글 엔티티는 팀마다 만들지 않고 이 개수만큼 만들어 돌려 씀
+    private static final int COMMENT_SET_COUNT = 64;
+    // NOTE 팀 상세 캐시 기본 최대 크기 (withme.team-detail-cache.maximum-size)
+    private static final int SNAPSHOT_COUNT = 1000;
+
+    @Param({"1000", "10000", "100000"})
+    private int teamCount;
+
+    private List<Team> teams;
+    private List<List<TeamComment>> commentSets;
+    private TeamDetailResponseDto[] snapshots;
+    private Set<Long> likedCommentIds;
+    private ObjectMapper objectMapper;
+    private int[] queryIndexes;
+    private int queryIndex;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(TeamFixtures.SEED);
+        teams = TeamFixtures.teams(teamCount);
+        commentSets = new ArrayList<>(COMMENT_SET_COUNT);
+        for (int i = 0; i < COMMENT_SET_COUNT; i++) {
+            commentSets.add(TeamFixtures.comments(teams.get(i % teams.size()), COMMENT_PAGE_SIZE, random));
+        }
+        likedCommentIds = Set.of(commentSets.get(0).get(0).getId());
+        snapshots = new TeamDetailResponseDto[Math.min(teamCount, SNAPSHOT_COUNT)];
+        for (int i = 0; i < snapshots.length; i++) {
+            snapshots[i] = toDetailResponse(i, Set.of());
+        }
+        objectMapper = TeamFixtures.objectMapper();
+
+        queryIndexes = new int[1024];
+        for (int i = 0; i < queryIndexes.length; i++) {
+            queryIndexes[i] = random.nextInt(teamCount);
+        }
+    }
+
+    /**
+     * 캐시 미스 - 엔티티로 상세 응답 구성
+     * */
+    @Benchmark
+    public TeamDetailResponseDto toDetailResponse() {
+        return toDetailResponse(nextIndex(), likedCommentIds);
+    }
+
+    /**
+     * 캐시 적중 - 스냅샷에 사용자별 좋아요 여부만 덧씌움
+     * */
+    @Benchmark
+    public TeamDetailResponseDto copySnapshot() {
+        TeamDetailResponseDto snapshot = snapshots[nextIndex() % snapshots.length];
+        List<TeamCommentResponseDto> comments = new ArrayList<>(snapshot.getTeamComments().size());
+        for (TeamCommentResponseDto comment : snapshot.getTeamComments()) {
+            comments.add(new TeamCommentResponseDto(comment, likedCommentIds));
+        }
+        return new TeamDetailResponseDto(snapshot, comments, true);
+    }
+
+    @Benchmark
+    public byte[] serializeDetail() throws Exception {
+        return objectMapper.writeValueAsBytes(snapshots[nextIndex() % snapshots.length]);
+    }
+
+    private TeamDetailResponseDto toDetailResponse(int index, Set<Long> likedIds) {
+        Team team = teams.get(index);
+        List<TeamComment> teamComments = commentSets.get(index % COMMENT_SET_COUNT);
+        List<TeamCommentResponseDto> comments = new ArrayList<>(teamComments.size());
+        for (TeamComment teamComment : teamComments) {
+            comments.add(new TeamCommentResponseDto(teamComment, likedIds));
+        }
+        return new TeamDetailResponseDto(team, comments, team.getTeamUsers().get(0), false);
+    }
+
+    private int nextIndex() {
+        return queryIndexes[queryIndex++ & (queryIndexes.length - 1)];
+    }
+}
@@ -0,0 +1,140 @@
+package com.withme.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.withme.api.domain.skill.Skill;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.teamComment.TeamComment;
+import com.withme.api.domain.teamSkill.TeamSkill;
+import com.withme.api.domain.teamUser.MemberType;
+import com.withme.api.domain.teamUser.TeamUser;
+import com.withme.api.domain.user.User;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 합성 데이터 (DB 없이 엔티티를 직접 구성, 고정 시드)
+ * NOTE id, 카운트, 등록 시각은 JPA 가 채우는 값이라 setter 가 없으므로 리플렉션으로 설정
+ */
+final class TeamFixtures {
+
+    static final long SEED = 42L;
+
+    private static final int USER_COUNT = 1000;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2022, 1, 1, 0, 0);
+
+    private TeamFixtures() {
+    }
+
+    /**
+     * 팀 count 개 (스킬 1~5개, 팀장 1명, 카테고리/상태/카운트 임의)
+     * */
+    static List<Team> teams(int count) {
+        Random random = new Random(SEED);
+        Skill[] skills = skills();
+        List<User> users = users();
+
+        List<Team> teams = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Team team = Team.builder()
+                    .teamName("팀 " + i)
+                    .teamCategory(random.nextBoolean() ? TeamCategory.STUDY : TeamCategory.PROJECT)
+                    .teamDesc("합성 데이터로 만든 " + i + "번째 팀 소개입니다.")
+                    .status(random.nextInt(10) > 0 ? Status.DISPLAYED : Status.HIDDEN)
+                    .build();
+            team.toTeamByTeamPost("팀원 모집 " + i, "함께 공부하고 프로젝트를 진행할 팀원을 모집합니다. ".repeat(1 + random.nextInt(10)));
+            team.setCreatedTime(BASE_TIME.plusMinutes(i));
+            int skillCount = 1 + random.nextInt(5);
+            for (int s = 0; s < skillCount; s++) {
+                Skill skill = skills[random.nextInt(skills.length)];
+                if ((team.getSkillMask() & skill.getSkillName().getMask()) == 0) team.addTeamSkill(new TeamSkill(team, skill));
+            }
+            team.addTeamUser(TeamUser.builder()
+                    .memberType(MemberType.LEADER)
+                    .team(team)
+                    .user(users.get(random.nextInt(users.size())))
+                    .build());
+            setField(team, "id", (long) i);
+            setField(team, "viewCount", random.nextInt(10_000));
+            setField(team, "commentCount", random.nextInt(100));
+            setField(team, "teamLikeCount", random.nextInt(1_000));
+            teams.add(team);
+        }
+        return teams;
+    }
+
+    /**
+     * 팀 상세 첫 페이지 댓글 (작성자는 사용자 풀에서 임의 선택)
+     * */
+    static List<TeamComment> comments(Team team, int count, Random random) {
+        List<TeamComment> comments = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            TeamComment comment = new TeamComment("댓글 " + i + " 입니다. 참여하고 싶어요!", user(1 + random.nextInt(USER_COUNT)), team);
+            setField(comment, "createdTime", BASE_TIME.plusMinutes(i));
+            setField(comment, "id", team.getId() * 1000 + i);
+            setField(comment, "commentLikeCount", random.nextInt(50));
+            comments.add(comment);
+        }
+        return comments;
+    }
+
+    static User user(long id) {
+        User user = User.builder()
+                .email("user" + id + "@withme.com")
+                .nickname("사용자" + id)
+                .userImage("default")
+                .role("ROLE_USER")
+                .joinRoot("withMe")
+                .build();
+        setField(user, "id", id);
+        return user;
+    }
+
+    /**
+     * 스프링 부트 기본 설정과 같은 모듈(JavaTimeModule 등)을 등록한 ObjectMapper
+     * */
+    static ObjectMapper objectMapper() {
+        return Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    private static Skill[] skills() {
+        SkillName[] skillNames = SkillName.values();
+        Skill[] skills = new Skill[skillNames.length];
+        for (int i = 0; i < skillNames.length; i++) {
+            skills[i] = new Skill(skillNames[i]);
+        }
+        return skills;
+    }
+
+    private static List<User> users() {
+        List<User> users = new ArrayList<>(USER_COUNT);
+        for (long id = 1; id <= USER_COUNT; id++) {
+            users.add(user(id));
+        }
+        return users;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Class<?> type = target.getClass();
+        while (type != null) {
+            try {
+                Field field = type.getDeclaredField(name);
+                field.setAccessible(true);
+                field.set(target, value);
+                return;
+            } catch (NoSuchFieldException e) {
+                type = type.getSuperclass();
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        throw new IllegalArgumentException("필드 없음 : " + name);
+    }
+}
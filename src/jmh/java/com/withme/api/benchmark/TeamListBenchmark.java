@@ -0,0 +1,65 @@
+package com.withme.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.withme.api.controller.dto.TeamListPageResponseDto;
+import com.withme.api.controller.dto.TeamListResponseDto;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.Team;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀 리스트 응답 구성 벤치마크 (스킬 조건 필터, DTO 변환, JSON 직렬화)
+ * NOTE 팀 수별로 전체 팀을 한 번에 처리하는 비용 (페이지 크기와 무관한 확장성 확인용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamListBenchmark {
+
+    // NOTE 목록 검색 조건 (java 또는 spring 을 가진 팀)
+    private static final long SKILL_MASK = SkillName.toBitmask(List.of(SkillName.java, SkillName.spring));
+
+    @Param({"1000", "10000", "100000"})
+    private int teamCount;
+
+    private List<Team> teams;
+    private TeamListPageResponseDto page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        teams = TeamFixtures.teams(teamCount);
+        page = new TeamListPageResponseDto(toListResponses(), "MjAyMi0wMS0wMVQxNDoyMToxMiw1");
+        objectMapper = TeamFixtures.objectMapper();
+    }
+
+    /**
+     * 스킬 조건에 맞는 팀 선별 (비트마스크 비교, 팀 스킬 컬렉션 순회 없음)
+     * */
+    @Benchmark
+    public List<Team> filterBySkills() {
+        List<Team> result = new ArrayList<>();
+        for (Team team : teams) {
+            if ((team.getSkillMask() & SKILL_MASK) != 0) result.add(team);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<TeamListResponseDto> toListResponses() {
+        List<TeamListResponseDto> result = new ArrayList<>(teams.size());
+        for (Team team : teams) {
+            result.add(new TeamListResponseDto(team));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,55 @@
+package com.withme.api.benchmark;
+
+import com.withme.api.controller.dto.TeamDetailRecommendReaponseDto;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.service.TeamSkillIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 팀 스킬 유사도 인덱스 top-k 조회 벤치마크
+ * NOTE 팀마다 스킬 1~5개를 임의로 부여 (고정 시드)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TeamSkillIndexBenchmark {
+
+    private static final int RECOMMEND_SIZE = 5;
+
+    @Param({"100000"})
+    private int teamCount;
+
+    private TeamSkillIndex teamSkillIndex;
+    private long[] queryTeamIds;
+    private int queryIndex;
+
+    @Setup
+    public void setUp() {
+        SkillName[] skillNames = SkillName.values();
+        Random random = new Random(42);
+        teamSkillIndex = new TeamSkillIndex();
+        for (long teamId = 1; teamId <= teamCount; teamId++) {
+            long skillMask = 0L;
+            int skillCount = 1 + random.nextInt(5);
+            for (int i = 0; i < skillCount; i++) {
+                skillMask |= skillNames[random.nextInt(skillNames.length)].getMask();
+            }
+            teamSkillIndex.put(teamId, "팀 " + teamId, skillMask, random.nextInt(10) > 0);
+        }
+
+        queryTeamIds = new long[1024];
+        for (int i = 0; i < queryTeamIds.length; i++) {
+            queryTeamIds[i] = 1 + random.nextInt(teamCount);
+        }
+    }
+
+    @Benchmark
+    public List<TeamDetailRecommendReaponseDto> findSimilar() {
+        long teamId = queryTeamIds[queryIndex++ & (queryTeamIds.length - 1)];
+        return teamSkillIndex.findSimilar(teamId, RECOMMEND_SIZE);
+    }
+}
@@ -0,0 +1,69 @@
+package com.withme.api.benchmark;
+
+import com.withme.api.config.auth.PrincipalDetails;
+import com.withme.api.config.auth.PrincipalDetailsCache;
+import com.withme.api.domain.user.User;
+import com.withme.api.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 토큰 생성/검증 벤치마크 (요청마다 인증 필터에서 실행되는 경로)
+ * NOTE 인증 정보는 캐시에 미리 넣어 두어 회원 조회 없이 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    // NOTE 테스트용 HS512 키 (운영 키와 무관)
+    private static final String SECRET = "IpxOjOXlMrNeWHPIKviXTU9V/2XO2F+9jAYWBIyPpRyz2OUtgrSa5TzG/8/K5MNehpI6AfSN+ASrTfI9M8M0zQ==";
+    private static final long USER_ID = 1L;
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+    private Claims claims;
+
+    @Setup
+    public void setUp() {
+        PrincipalDetailsCache principalDetailsCache = new PrincipalDetailsCache(10_000, 300, new SimpleMeterRegistry());
+        tokenProvider = new TokenProvider(SECRET, 3600, null, TeamFixtures.objectMapper(), principalDetailsCache);
+        tokenProvider.afterPropertiesSet();
+
+        User user = TeamFixtures.user(USER_ID);
+        PrincipalDetails principalDetails = new PrincipalDetails(user);
+        principalDetailsCache.get(USER_ID, userId -> principalDetails);
+        authentication = new UsernamePasswordAuthenticationToken(principalDetails, null, principalDetails.getAuthorities());
+        token = "Bearer " + tokenProvider.createToken(authentication, USER_ID);
+        claims = tokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication, USER_ID);
+    }
+
+    @Benchmark
+    public Claims parseClaims() {
+        return tokenProvider.parseClaims(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    /**
+     * 검증된 토큰으로 인증 객체 구성 (캐시 적중)
+     * */
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token, claims);
+    }
+}
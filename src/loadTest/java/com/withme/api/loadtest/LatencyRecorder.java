@@ -0,0 +1,69 @@
+package com.withme.api.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 시나리오 하나의 응답 시간 기록 (워커 스레드마다 따로 기록하고 끝난 후 합침, 동기화 없음)
+ */
+public class LatencyRecorder {
+
+    private long[] latencies = new long[1024];
+    private int size;
+    private long errors;
+
+    public void record(long latencyNanos, boolean success) {
+        if (size == latencies.length) latencies = Arrays.copyOf(latencies, size * 2);
+        latencies[size++] = latencyNanos;
+        if (!success) errors++;
+    }
+
+    public void merge(LatencyRecorder other) {
+        if (size + other.size > latencies.length) latencies = Arrays.copyOf(latencies, Math.max(size + other.size, latencies.length * 2));
+        System.arraycopy(other.latencies, 0, latencies, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    public int getCount() {
+        return size;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * 요청 수, 오류 수, 처리량(초당), 응답 시간(ms) 평균/p50/p95/p99/최대
+     * */
+    public Map<String, Object> summarize(double elapsedSeconds) {
+        long[] sorted = Arrays.copyOf(latencies, size);
+        Arrays.sort(sorted);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", size);
+        summary.put("errors", errors);
+        summary.put("throughputPerSecond", round(size / elapsedSeconds));
+        summary.put("meanMs", size == 0 ? 0.0 : toMillis((long) Arrays.stream(sorted).average().orElse(0)));
+        summary.put("p50Ms", toMillis(percentile(sorted, 50)));
+        summary.put("p95Ms", toMillis(percentile(sorted, 95)));
+        summary.put("p99Ms", toMillis(percentile(sorted, 99)));
+        summary.put("maxMs", toMillis(size == 0 ? 0 : sorted[size - 1]));
+        return summary;
+    }
+
+    // NOTE nearest-rank 방식 (정렬된 값 중 ceil(p/100 * n) 번째)
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    private static double toMillis(long nanos) {
+        return round(nanos / 1_000_000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
@@ -0,0 +1,66 @@
+package com.withme.api.loadtest;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.* 로 변경, build.gradle 의 loadTest 태스크가 -P 값을 전달)
+ */
+@Getter
+public class LoadTestConfig {
+
+    // NOTE 데이터 규모
+    private final int users = intProperty("users", 200);
+    private final int teams = intProperty("teams", 2000);
+    private final int commentsPerTeam = intProperty("comments-per-team", 10);
+    // NOTE 댓글 중 대댓글 비율 (%, 같은 팀의 앞서 생성된 댓글을 부모로 지정)
+    private final int replyPercent = intProperty("reply-percent", 30);
+    private final int likesPerTeam = intProperty("likes-per-team", 5);
+
+    // NOTE 부하 (동시 요청 수, 워밍업/측정 시간)
+    private final int threads = intProperty("threads", 16);
+    private final int warmupSeconds = intProperty("warmup-seconds", 10);
+    private final int durationSeconds = intProperty("duration-seconds", 60);
+    private final long seed = intProperty("seed", 42);
+
+    private final String outputDir = System.getProperty("loadtest.output-dir", "build/reports/loadtest");
+
+    // NOTE 시나리오별 비중 (합계 기준 비율, 0 이면 실행하지 않음)
+    private final Map<Scenario, Integer> weights = new LinkedHashMap<>();
+
+    public LoadTestConfig() {
+        for (Scenario scenario : Scenario.values()) {
+            weights.put(scenario, intProperty("weight." + scenario.getKey(), scenario.getDefaultWeight()));
+        }
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty("loadtest." + name, String.valueOf(defaultValue)));
+    }
+
+    /**
+     * 요청 종류
+     * */
+    @Getter
+    public enum Scenario {
+        TEAM_LIST("team-list", 33)
+        , TEAM_SEARCH("team-search", 5)
+        , TEAM_DETAIL("team-detail", 28)
+        , COMMENT_PAGE("comment-page", 8)
+        , COMMENT_CHILDREN("comment-children", 5)
+        , COMMENT_ADD("comment-add", 6)
+        , REPLY_ADD("reply-add", 3)
+        , TEAM_LIKE("team-like", 7)
+        , COMMENT_LIKE("comment-like", 5);
+
+        private final String key;
+        private final int defaultWeight;
+
+        Scenario(String key, int defaultWeight) {
+            this.key = key;
+            this.defaultWeight = defaultWeight;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.withme.api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.withme.api.ApiApplication;
+import com.withme.api.config.auth.PrincipalDetails;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.user.User;
+import com.withme.api.domain.user.UserRepository;
+import com.withme.api.jwt.TokenProvider;
+import com.withme.api.loadtest.LoadTestConfig.Scenario;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HTTP 부하 테스트 (./gradlew loadTest)
+ * NOTE loadtest 프로필(H2 메모리 DB)로 애플리케이션을 임의 포트에 띄우고 데이터를 생성한 후
+ *      워커 스레드마다 비중에 따라 시나리오를 골라 요청을 반복, 워밍업 이후 구간의 응답 시간만 집계해 JSON 으로 저장
+ */
+@Slf4j
+public class LoadTestRunner {
+
+    private static final String API = "/api/v1";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LoadTestConfig config;
+    private final LoadTestSeeder.Dataset dataset;
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    // NOTE 사용자 id -> "Bearer 토큰"
+    private final Map<Long, String> tokens;
+    // NOTE 사용자별 마지막으로 받은 팀 상세 ETag (팀 id -> ETag, 재방문 시 If-None-Match 전송)
+    private final Map<String, String> eTags = new ConcurrentHashMap<>();
+    private final Scenario[] scenarioTable;
+
+    private LoadTestRunner(LoadTestConfig config, LoadTestSeeder.Dataset dataset, String baseUrl, Map<Long, String> tokens) {
+        this.config = config;
+        this.dataset = dataset;
+        this.baseUrl = baseUrl;
+        this.tokens = tokens;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .executor(Executors.newFixedThreadPool(config.getThreads()))
+                .build();
+        this.scenarioTable = toScenarioTable(config.getWeights());
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = new LoadTestConfig();
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ApiApplication.class)
+                .profiles("loadtest")
+                .properties("server.port=0")
+                .run(args);
+        int exitCode = 0;
+        try {
+            LoadTestSeeder.Dataset dataset = new LoadTestSeeder(context).seed(config);
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            LoadTestRunner runner = new LoadTestRunner(config, dataset, baseUrl, createTokens(context, dataset.getUserIds()));
+
+            Map<String, Object> report = runner.run();
+            File output = runner.writeReport(report);
+            log.warn("부하 테스트 결과 : {}", output.getAbsolutePath());
+        } catch (Exception e) {
+            log.error("부하 테스트 실패", e);
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static Map<Long, String> createTokens(ConfigurableApplicationContext context, List<Long> userIds) {
+        TokenProvider tokenProvider = context.getBean(TokenProvider.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        Map<Long, String> tokens = new HashMap<>();
+        for (User user : userRepository.findAllById(userIds)) {
+            PrincipalDetails principalDetails = new PrincipalDetails(user);
+            tokens.put(user.getId(), "Bearer " + tokenProvider.createToken(
+                    new UsernamePasswordAuthenticationToken(principalDetails, null, principalDetails.getAuthorities()), user.getId()));
+        }
+        return tokens;
+    }
+
+    /**
+     * 워밍업 후 측정 (워밍업 구간 기록은 버림)
+     * */
+    private Map<String, Object> run() throws Exception {
+        log.warn("워밍업 {}초, 측정 {}초, 스레드 {}", config.getWarmupSeconds(), config.getDurationSeconds(), config.getThreads());
+        runPhase(config.getWarmupSeconds());
+        long started = System.nanoTime();
+        Map<Scenario, LatencyRecorder> recorders = runPhase(config.getDurationSeconds());
+        double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        LatencyRecorder total = new LatencyRecorder();
+        Map<String, Object> scenarios = new LinkedHashMap<>();
+        for (Map.Entry<Scenario, LatencyRecorder> entry : recorders.entrySet()) {
+            total.merge(entry.getValue());
+            scenarios.put(entry.getKey().getKey(), entry.getValue().summarize(elapsedSeconds));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", LocalDateTime.now().toString());
+        report.put("config", toConfigSummary());
+        report.put("elapsedSeconds", Math.round(elapsedSeconds * 1000) / 1000.0);
+        report.put("total", total.summarize(elapsedSeconds));
+        report.put("scenarios", scenarios);
+        return report;
+    }
+
+    private Map<Scenario, LatencyRecorder> runPhase(int seconds) throws Exception {
+        long deadline = System.nanoTime() + seconds * 1_000_000_000L;
+        ExecutorService workers = Executors.newFixedThreadPool(config.getThreads());
+        try {
+            List<Future<Map<Scenario, LatencyRecorder>>> futures = new ArrayList<>();
+            for (int i = 0; i < config.getThreads(); i++) {
+                futures.add(workers.submit(() -> work(deadline)));
+            }
+
+            Map<Scenario, LatencyRecorder> merged = new EnumMap<>(Scenario.class);
+            for (Future<Map<Scenario, LatencyRecorder>> future : futures) {
+                future.get().forEach((scenario, recorder) -> merged.computeIfAbsent(scenario, key -> new LatencyRecorder()).merge(recorder));
+            }
+            return merged;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private Map<Scenario, LatencyRecorder> work(long deadline) {
+        Map<Scenario, LatencyRecorder> recorders = new EnumMap<>(Scenario.class);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadline) {
+            Scenario scenario = scenarioTable[random.nextInt(scenarioTable.length)];
+            Long userId = dataset.getUserIds().get(random.nextInt(dataset.getUserIds().size()));
+            HttpRequest request = toRequest(scenario, userId, random);
+
+            long started = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                success = response.statusCode() < 400;
+                if (scenario == Scenario.TEAM_DETAIL) {
+                    response.headers().firstValue("ETag").ifPresent(eTag -> eTags.put(request.uri().getPath() + userId, eTag));
+                }
+            } catch (Exception e) {
+                success = false;
+            }
+            recorders.computeIfAbsent(scenario, key -> new LatencyRecorder()).record(System.nanoTime() - started, success);
+        }
+        return recorders;
+    }
+
+    private HttpRequest toRequest(Scenario scenario, Long userId, ThreadLocalRandom random) {
+        String token = tokens.get(userId);
+        Long teamId = dataset.getTeamIds().get(random.nextInt(dataset.getTeamIds().size()));
+        switch (scenario) {
+            case TEAM_LIST: {
+                SkillName skill = SkillName.values()[random.nextInt(SkillName.values().length)];
+                return post(API + "/team/team-list", null, "{\"skills\":[\"" + skill + "\"],\"sort\":0,\"size\":20}");
+            }
+            case TEAM_SEARCH:
+                return post(API + "/team/team-list", null, "{\"skills\":[],\"keyword\":\"스프링 모집\",\"sort\":0,\"size\":20}");
+            case TEAM_DETAIL: {
+                String path = API + "/team/" + teamId + "/detail";
+                HttpRequest.Builder builder = request(path, token).GET();
+                // NOTE 절반은 이전에 받은 ETag 로 재요청 (브라우저 재방문)
+                String eTag = eTags.get(path + userId);
+                if (eTag != null && random.nextBoolean()) builder.header("If-None-Match", eTag);
+                return builder.build();
+            }
+            case COMMENT_PAGE:
+                return request(API + "/team/" + teamId + "/comments?size=20", token).GET().build();
+            case COMMENT_CHILDREN: {
+                long[] root = dataset.getRootCommentIds().get(random.nextInt(dataset.getRootCommentIds().size()));
+                return request(API + "/team/" + root[0] + "/comments/" + root[1] + "/children?size=20", token).GET().build();
+            }
+            case COMMENT_ADD:
+                return post(API + "/team/" + teamId + "/comment", token, "{\"content\":\"부하 테스트 댓글\",\"parentId\":0}");
+            case REPLY_ADD: {
+                long[] root = dataset.getRootCommentIds().get(random.nextInt(dataset.getRootCommentIds().size()));
+                return post(API + "/team/" + root[0] + "/comment", token, "{\"content\":\"부하 테스트 대댓글\",\"parentId\":" + root[1] + "}");
+            }
+            case TEAM_LIKE: {
+                // NOTE 좋아요/취소를 임의로 섞어서 요청
+                String path = API + "/team/" + teamId + "/team-like";
+                return random.nextBoolean()
+                        ? request(path, token).PUT(HttpRequest.BodyPublishers.noBody()).build()
+                        : request(path, token).DELETE().build();
+            }
+            case COMMENT_LIKE: {
+                long[] comment = dataset.getCommentIds().get(random.nextInt(dataset.getCommentIds().size()));
+                String path = API + "/team/" + comment[0] + "/comment-like/" + comment[1];
+                return random.nextBoolean()
+                        ? request(path, token).PUT(HttpRequest.BodyPublishers.noBody()).build()
+                        : request(path, token).DELETE().build();
+            }
+            default:
+                throw new IllegalArgumentException("지원하지 않는 시나리오 : " + scenario);
+        }
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        return request(path, token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) builder.header("Authorization", token);
+        return builder;
+    }
+
+    private Map<String, Object> toConfigSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("users", config.getUsers());
+        summary.put("teams", config.getTeams());
+        summary.put("commentsPerTeam", config.getCommentsPerTeam());
+        summary.put("replyPercent", config.getReplyPercent());
+        summary.put("likesPerTeam", config.getLikesPerTeam());
+        summary.put("threads", config.getThreads());
+        summary.put("warmupSeconds", config.getWarmupSeconds());
+        summary.put("durationSeconds", config.getDurationSeconds());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        config.getWeights().forEach((scenario, weight) -> weights.put(scenario.getKey(), weight));
+        summary.put("weights", weights);
+        return summary;
+    }
+
+    /**
+     * 결과 저장 (실행 시각별 파일, 비교용 latest.json 은 덮어씀)
+     * */
+    private File writeReport(Map<String, Object> report) throws Exception {
+        File outputDir = new File(config.getOutputDir());
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            throw new IllegalStateException("결과 디렉토리 생성 실패 : " + outputDir);
+        }
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        File output = new File(outputDir, "loadtest-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        objectMapper.writeValue(output, report);
+        objectMapper.writeValue(new File(outputDir, "latest.json"), report);
+        return output;
+    }
+
+    /**
+     * 비중만큼 시나리오를 반복해 넣은 표 (임의 인덱스로 고르면 비중대로 선택됨)
+     * */
+    private static Scenario[] toScenarioTable(Map<Scenario, Integer> weights) {
+        List<Scenario> table = new ArrayList<>();
+        weights.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                table.add(scenario);
+            }
+        });
+        if (table.isEmpty()) throw new IllegalArgumentException("실행할 시나리오가 없음 (loadtest.weight.*)");
+        return table.toArray(new Scenario[0]);
+    }
+}
@@ -0,0 +1,157 @@
+package com.withme.api.loadtest;
+
+import com.withme.api.domain.skill.Skill;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.teamComment.TeamComment;
+import com.withme.api.domain.teamLike.TeamLikeRepository;
+import com.withme.api.domain.teamSkill.TeamSkill;
+import com.withme.api.domain.teamUser.MemberType;
+import com.withme.api.domain.teamUser.TeamUser;
+import com.withme.api.domain.user.User;
+import com.withme.api.service.TeamRecommendPool;
+import com.withme.api.service.TeamSearchIndexUpdater;
+import com.withme.api.service.TeamSkillIndexUpdater;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 부하 테스트 데이터 생성 (사용자, 팀, 팀 스킬, 댓글, 좋아요)
+ * NOTE 팀 단위로 나눠서 커밋하고 영속성 컨텍스트를 비움, 끝나면 시작 시 구성된 메모리 인덱스를 다시 구성
+ */
+@Slf4j
+public class LoadTestSeeder {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String[] TOPICS = {"스프링", "리액트", "알고리즘", "코딩 테스트", "사이드 프로젝트", "쿠버네티스", "파이썬", "면접"};
+
+    private final ConfigurableApplicationContext context;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public LoadTestSeeder(ConfigurableApplicationContext context) {
+        this.context = context;
+        this.entityManager = context.getBean(EntityManager.class);
+        this.transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    public Dataset seed(LoadTestConfig config) {
+        Random random = new Random(config.getSeed());
+        List<Long> userIds = seedUsers(config.getUsers());
+        Dataset dataset = new Dataset(userIds);
+
+        for (int from = 0; from < config.getTeams(); from += BATCH_SIZE) {
+            int to = Math.min(config.getTeams(), from + BATCH_SIZE);
+            int start = from;
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = start; i < to; i++) {
+                    seedTeam(i, config, dataset, random);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+        }
+
+        // NOTE 좋아요는 네이티브 insert 로 넣었으므로 팀 좋아요/댓글 수를 실제 값으로 맞춤
+        transactionTemplate.executeWithoutResult(status -> context.getBean(TeamRepository.class).reconcileCounts());
+        context.getBean(TeamSkillIndexUpdater.class).rebuild();
+        context.getBean(TeamSearchIndexUpdater.class).rebuild();
+        context.getBean(TeamRecommendPool.class).refresh();
+
+        log.warn("부하 테스트 데이터 생성 : 사용자 {}, 팀 {}, 댓글 {} (부모 댓글 {})"
+                , userIds.size(), dataset.getTeamIds().size(), dataset.getCommentIds().size(), dataset.getRootCommentIds().size());
+        return dataset;
+    }
+
+    private List<Long> seedUsers(int count) {
+        return transactionTemplate.execute(status -> {
+            List<Long> userIds = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                User user = User.builder()
+                        .email("loadtest" + i + "@withme.com")
+                        .nickname("부하테스트" + i)
+                        .userImage("default")
+                        .role("ROLE_USER")
+                        .joinRoot("withMe")
+                        .build();
+                entityManager.persist(user);
+                userIds.add(user.getId());
+            }
+            return userIds;
+        });
+    }
+
+    private void seedTeam(int index, LoadTestConfig config, Dataset dataset, Random random) {
+        String topic = TOPICS[random.nextInt(TOPICS.length)];
+        Team team = Team.builder()
+                .teamName("부하 테스트 팀 " + index)
+                .teamCategory(random.nextBoolean() ? TeamCategory.STUDY : TeamCategory.PROJECT)
+                .teamDesc(topic + " 함께 하실 분을 찾습니다.")
+                .status(Status.DISPLAYED)
+                .build();
+        team.toTeamByTeamPost(topic + " 팀원 모집 " + index, topic + " 관련 " + "주 2회 온라인으로 진행합니다. ".repeat(1 + random.nextInt(5)));
+
+        SkillName[] skillNames = SkillName.values();
+        int skillCount = 1 + random.nextInt(4);
+        for (int s = 0; s < skillCount; s++) {
+            SkillName skillName = skillNames[random.nextInt(skillNames.length)];
+            if ((team.getSkillMask() & skillName.getMask()) != 0) continue;
+            team.addTeamSkill(new TeamSkill(team, entityManager.getReference(Skill.class, skillName)));
+        }
+
+        List<Long> userIds = dataset.getUserIds();
+        User leader = entityManager.getReference(User.class, userIds.get(random.nextInt(userIds.size())));
+        team.addTeamUser(TeamUser.builder().memberType(MemberType.LEADER).team(team).user(leader).build());
+        entityManager.persist(team);
+
+        // NOTE 첫 댓글은 항상 부모 댓글, 이후는 replyPercent 비율로 앞서 생성된 부모 댓글의 대댓글 (대댓글의 댓글은 등록 불가)
+        List<TeamComment> roots = new ArrayList<>();
+        for (int c = 0; c < config.getCommentsPerTeam(); c++) {
+            User writer = entityManager.getReference(User.class, userIds.get(random.nextInt(userIds.size())));
+            TeamComment comment = new TeamComment("부하 테스트 댓글 " + c, writer, team);
+            boolean reply = !roots.isEmpty() && random.nextInt(100) < config.getReplyPercent();
+            if (reply) comment.setParent(roots.get(random.nextInt(roots.size())));
+            entityManager.persist(comment);
+            dataset.getCommentIds().add(new long[]{team.getId(), comment.getId()});
+            if (!reply) {
+                roots.add(comment);
+                dataset.getRootCommentIds().add(new long[]{team.getId(), comment.getId()});
+            }
+        }
+        entityManager.flush();
+
+        TeamLikeRepository teamLikeRepository = context.getBean(TeamLikeRepository.class);
+        for (int l = 0; l < config.getLikesPerTeam(); l++) {
+            teamLikeRepository.insertTeamLike(team.getId(), userIds.get(random.nextInt(userIds.size())));
+        }
+        dataset.getTeamIds().add(team.getId());
+    }
+
+    /**
+     * 생성된 데이터 id (시나리오에서 요청 대상 선택에 사용)
+     * */
+    @Getter
+    public static class Dataset {
+        private final List<Long> userIds;
+        private final List<Long> teamIds = new ArrayList<>();
+        // NOTE (팀 id, 댓글 id)
+        private final List<long[]> commentIds = new ArrayList<>();
+        // NOTE (팀 id, 부모 댓글 id) 대댓글 등록/조회 대상
+        private final List<long[]> rootCommentIds = new ArrayList<>();
+
+        public Dataset(List<Long> userIds) {
+            this.userIds = userIds;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.withme.api.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -18,6 +19,7 @@ public class CorsConfig {
         config.addAllowedOrigin("http://localhost:3000");   //허용할 ip
         config.addAllowedHeader("*");   //허용할 header
         config.addAllowedMethod("*");   //허용할 httpMehod(GET, POST, etc..)
+        config.addExposedHeader(HttpHeaders.ETAG);   //브라우저에서 읽을 수 있는 응답 header (팀 상세 조건부 조회)
         source.registerCorsConfiguration("/**", config);
 
         return new CorsFilter(source);
@@ -0,0 +1,17 @@
+package com.withme.api.config;
+
+import org.hibernate.dialect.MySQL8Dialect;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * JPQL에서 비트 연산을 사용하기 위한 MySQL Dialect
+ * H2Dialect는 bitand 함수를 기본으로 제공하므로 MySQL에서도 같은 이름으로 등록
+ */
+public class CustomMySQL8Dialect extends MySQL8Dialect {
+
+    public CustomMySQL8Dialect() {
+        super();
+        registerFunction("bitand", new SQLFunctionTemplate(StandardBasicTypes.LONG, "(?1 & ?2)"));
+    }
+}
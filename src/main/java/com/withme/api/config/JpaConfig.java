@@ -1,10 +1,25 @@
 package com.withme.api.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+@Slf4j
 @Configuration
 @EnableJpaAuditing
 public class JpaConfig {
-}
 
+    // NOTE 별도 StatementInspector 가 설정된 경우(테스트의 SQL 캡처 등) 그 설정을 유지하고 실행 수 집계는 하지 않음
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return hibernateProperties -> {
+            Object configured = hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+            if (configured != null) {
+                log.warn("StatementInspector 가 이미 설정되어 SQL 실행 수를 집계하지 않음 : {}", configured);
+            }
+        };
+    }
+}
@@ -72,6 +72,9 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
                 .antMatchers(HttpMethod.GET, "/api/v1/team/{teamId}/notice").permitAll()
                 .antMatchers(HttpMethod.POST, "/api/v1/team/{teamId}/notice").authenticated()
                 .antMatchers(HttpMethod.GET, "/api/v1/team/{teamId}/team-member").permitAll()
+                /** Actuator (health 는 헬스 체크용으로 공개, 메트릭/프로메테우스 등 나머지는 관리자만) */
+                .antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                .antMatchers("/actuator/**").hasRole("ADMIN")
                .anyRequest().permitAll()
 
                 .and()
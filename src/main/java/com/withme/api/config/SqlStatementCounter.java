@@ -0,0 +1,63 @@
+package com.withme.api.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 현재 스레드에서 실행된 SQL 수 집계 (start ~ stop 구간만 집계, 구간은 중첩 가능)
+ * NOTE 요청 필터와 테스트가 같은 스레드에서 각각 구간을 열어도 바깥 구간에 안쪽 구간의 실행 수가 함께 더해짐
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.count++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        CURRENT.set(new Scope(CURRENT.get()));
+    }
+
+    /**
+     * 가장 안쪽 구간을 닫고 그 구간의 실행 수를 반환 (열린 구간이 없으면 0)
+     * */
+    public static int stop() {
+        Scope scope = CURRENT.get();
+        if (scope == null) return 0;
+
+        if (scope.parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(scope.parent);
+        }
+        return scope.count;
+    }
+
+    public static int current() {
+        Scope scope = CURRENT.get();
+        return scope == null ? 0 : scope.count;
+    }
+
+    /**
+     * 가장 안쪽 구간의 실행 수를 0으로 (테스트 데이터 준비 쿼리 제외용)
+     * */
+    public static void reset() {
+        Scope scope = CURRENT.get();
+        if (scope != null) scope.count = 0;
+    }
+
+    private static class Scope {
+        private final Scope parent;
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+    }
+}
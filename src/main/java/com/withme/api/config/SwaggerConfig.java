@@ -2,8 +2,12 @@ package com.withme.api.config;
 
 import com.fasterxml.classmate.TypeResolver;
 import com.withme.api.controller.dto.*;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
 import springfox.documentation.builders.ApiInfoBuilder;
 import springfox.documentation.builders.PathSelectors;
 import springfox.documentation.builders.RequestHandlerSelectors;
@@ -11,7 +15,9 @@ import springfox.documentation.service.*;
 import springfox.documentation.spi.DocumentationType;
 import springfox.documentation.spi.service.contexts.SecurityContext;
 import springfox.documentation.spring.web.plugins.Docket;
+import springfox.documentation.spring.web.plugins.WebMvcRequestHandlerProvider;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 
@@ -24,6 +30,11 @@ public class SwaggerConfig {
                         typeResolver.resolve(ExceptionResponseDto.class)
                         , typeResolver.resolve(MyPageResponseDto.class)
                         , typeResolver.resolve(TeamListResponseDto.class)
+                        , typeResolver.resolve(TeamListPageResponseDto.class)
+                        , typeResolver.resolve(TeamCommentPageResponseDto.class)
+                        , typeResolver.resolve(TeamChildrenCommentPageResponseDto.class)
+                        , typeResolver.resolve(TeamLikeResponseDto.class)
+                        , typeResolver.resolve(CommentLikeResponseDto.class)
                         , typeResolver.resolve(TeamNoticeResponseDto.class)
                         , typeResolver.resolve(TeamResponseDto.class)
                         , typeResolver.resolve(TeamSearchResponseDto.class)
@@ -39,6 +50,31 @@ public class SwaggerConfig {
                     .build();
     }
 
+    /**
+     * actuator 엔드포인트(PathPatternParser 사용) 매핑은 springfox 가 처리하지 못하므로 제외
+     * NOTE Spring Boot 2.6 + springfox 3.0.0 에서 actuator 추가 시 documentationPluginsBootstrapper NPE 방지
+     * */
+    @Bean
+    public static BeanPostProcessor springfoxHandlerProviderBeanPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof WebMvcRequestHandlerProvider) {
+                    List<RequestMappingInfoHandlerMapping> handlerMappings = getHandlerMappings(bean);
+                    handlerMappings.removeIf(mapping -> mapping.getPatternParser() != null);
+                }
+                return bean;
+            }
+
+            @SuppressWarnings("unchecked")
+            private List<RequestMappingInfoHandlerMapping> getHandlerMappings(Object bean) {
+                Field field = ReflectionUtils.findField(bean.getClass(), "handlerMappings");
+                ReflectionUtils.makeAccessible(field);
+                return (List<RequestMappingInfoHandlerMapping>) ReflectionUtils.getField(field, bean);
+            }
+        };
+    }
+
     private ApiKey apiKey() {
         return new ApiKey("Authorization", "Authorization", "header");
     }
@@ -1,10 +1,15 @@
 package com.withme.api.config;
 
+import com.withme.api.config.trace.TracingJackson2HttpMessageConverter;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.EnableWebMvc;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 @EnableWebMvc
 public class WebConfig implements WebMvcConfigurer {
@@ -15,4 +20,12 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowedMethods("GET", "PUT", "POST", "DELETE")
                 .maxAge(3600);
     }
+
+    // NOTE 기본 JSON 컨버터를 같은 ObjectMapper 를 쓰는 트레이스 기록 컨버터로 교체 (직렬화 시간 측정)
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                ? new TracingJackson2HttpMessageConverter(((MappingJackson2HttpMessageConverter) converter).getObjectMapper())
+                : converter);
+    }
 }
@@ -21,6 +21,7 @@ import java.util.Collections;
 public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequest, OAuth2User> {
 
     private final UserRepository userRepository;
+    private final PrincipalDetailsCache principalDetailsCache;
 
 
     @Override
@@ -54,7 +55,9 @@ public class CustomOAuth2UserService implements OAuth2UserService<OAuth2UserRequ
 
         log.debug("user : {}", user);
 
-        return userRepository.save(user);
+        User savedUser = userRepository.save(user);
+        principalDetailsCache.evict(savedUser.getId());
+        return savedUser;
     }
 
 }
\ No newline at end of file
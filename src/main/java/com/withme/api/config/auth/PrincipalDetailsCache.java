@@ -0,0 +1,67 @@
+package com.withme.api.config.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 시 사용하는 인증 정보(PrincipalDetails) 캐시
+ * NOTE 요청마다 토큰의 userId로 회원을 조회하지 않도록 userId 기준으로 보관
+ *      회원 정보가 바뀌면 evict 로 제거 (hit/miss 는 principalDetails 캐시 메트릭으로 확인)
+ */
+@Slf4j
+@Component
+public class PrincipalDetailsCache {
+
+    private static final String CACHE_NAME = "principalDetails";
+
+    private final Cache<Long, PrincipalDetails> cache;
+
+    public PrincipalDetailsCache(
+            @Value("${jwt.principal-cache.maximum-size:10000}") long maximumSize,
+            @Value("${jwt.principal-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 인증 정보 조회 (없으면 loader 로 조회 후 저장, loader 가 null 을 리턴하면 저장하지 않음)
+     * */
+    public PrincipalDetails get(Long userId, Function<Long, PrincipalDetails> loader) {
+        return cache.get(userId, loader);
+    }
+
+    /**
+     * 회원 정보 변경 시 캐시 제거
+     * NOTE 트랜잭션 중이면 커밋 이후에 제거 (커밋 전에 제거하면 다른 요청이 변경 전 값을 다시 캐시할 수 있음)
+     * */
+    public void evict(Long userId) {
+        if (userId == null) return;
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        } else {
+            cache.invalidate(userId);
+        }
+        log.debug("인증 정보 캐시 제거 : {}", userId);
+    }
+}
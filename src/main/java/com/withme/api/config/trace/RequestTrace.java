@@ -0,0 +1,82 @@
+package com.withme.api.config.trace;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 완료된 요청 하나의 트레이스 (루트 구간 = 요청 전체)
+ */
+@Getter
+public class RequestTrace {
+
+    private final LocalDateTime requestedAt;
+    private final String method;
+    private final String uri;
+    private final int status;
+    private final TraceSpan root;
+
+    public RequestTrace(LocalDateTime requestedAt, String method, String uri, int status, TraceSpan root) {
+        this.requestedAt = requestedAt;
+        this.method = method;
+        this.uri = uri;
+        this.status = status;
+        this.root = root;
+    }
+
+    public double getDurationMillis() {
+        return root.getDurationMillis();
+    }
+
+    /**
+     * Server-Timing 헤더 값 (같은 이름의 구간은 합산, 중첩 구간은 상위 구간 시간에도 포함됨)
+     * 예) total;dur=35.2, TeamService.getTeamListByTeamId;dur=30.1;desc="x1 sql=12", serialize;dur=2.4;desc="x1 sql=0"
+     * */
+    public String toServerTiming() {
+        Map<String, double[]> totals = new LinkedHashMap<>();
+        for (TraceSpan child : root.getChildren()) {
+            collect(child, totals);
+        }
+
+        StringBuilder value = new StringBuilder(format("total", root.getDurationMillis()))
+                .append(";desc=\"sql=").append(root.getSqlCount()).append('"');
+        totals.forEach((name, total) -> value.append(", ").append(format(name, total[0]))
+                .append(";desc=\"x").append((long) total[1]).append(" sql=").append((long) total[2]).append('"'));
+        return value.toString();
+    }
+
+    private static void collect(TraceSpan span, Map<String, double[]> totals) {
+        double[] total = totals.computeIfAbsent(span.getName(), name -> new double[3]);
+        total[0] += span.getDurationMillis();
+        total[1]++;
+        total[2] += span.getSqlCount();
+        for (TraceSpan child : span.getChildren()) {
+            collect(child, totals);
+        }
+    }
+
+    private static String format(String name, double millis) {
+        return String.format(Locale.ROOT, "%s;dur=%.1f", name, millis);
+    }
+
+    /**
+     * 로그용 구간 트리 (들여쓰기로 중첩 표시)
+     * */
+    public String render() {
+        StringBuilder tree = new StringBuilder();
+        render(root, 0, tree);
+        return tree.toString();
+    }
+
+    private static void render(TraceSpan span, int depth, StringBuilder tree) {
+        tree.append("  ".repeat(depth))
+                .append(String.format(Locale.ROOT, "%s %.1fms sql=%d", span.getName(), span.getDurationMillis(), span.getSqlCount()))
+                .append('\n');
+        for (TraceSpan child : span.getChildren()) {
+            render(child, depth + 1, tree);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.withme.api.config.trace;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * 서비스(@Service), 리포지토리 메소드 호출을 요청 트레이스 구간으로 기록
+ * NOTE 진행 중인 트레이스가 없는 호출(스케줄러, 시작 시 초기화 등)은 바로 실행
+ */
+@Aspect
+@Component
+public class RequestTraceAspect {
+
+    @Around("@within(org.springframework.stereotype.Service) || execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object trace(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!RequestTracer.isActive()) return joinPoint.proceed();
+
+        TraceSpan span = RequestTracer.span(spanName(joinPoint));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            span.close();
+        }
+    }
+
+    // NOTE 리포지토리는 JDK 프록시이므로 구현 클래스 대신 리포지토리 인터페이스 이름을 사용 (TeamRepository.findById 등)
+    private static String spanName(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getThis();
+        Class<?> type = AopUtils.isJdkDynamicProxy(target) ? AopProxyUtils.proxiedUserInterfaces(target)[0] : ClassUtils.getUserClass(target);
+        return type.getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+}
@@ -0,0 +1,40 @@
+package com.withme.api.config.trace;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 최근 요청 트레이스 보관 (고정 크기 링 버퍼, 가득 차면 가장 오래된 트레이스를 덮어씀)
+ */
+@Component
+public class RequestTraceBuffer {
+
+    private final RequestTrace[] traces;
+    private int next;
+    private int size;
+
+    public RequestTraceBuffer(@Value("${withme.trace.buffer-size:200}") int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("withme.trace.buffer-size 는 1 이상이어야 합니다.");
+        this.traces = new RequestTrace[capacity];
+    }
+
+    public synchronized void add(RequestTrace trace) {
+        traces[next] = trace;
+        next = (next + 1) % traces.length;
+        if (size < traces.length) size++;
+    }
+
+    /**
+     * 최근 요청부터 순서대로
+     * */
+    public synchronized List<RequestTrace> recent() {
+        List<RequestTrace> recent = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            recent.add(traces[(next - i + traces.length) % traces.length]);
+        }
+        return recent;
+    }
+}
@@ -0,0 +1,24 @@
+package com.withme.api.config.trace;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/requesttraces - 최근 요청 트레이스 조회
+ */
+@Component
+@Endpoint(id = "requesttraces")
+@RequiredArgsConstructor
+public class RequestTraceEndpoint {
+
+    private final RequestTraceBuffer requestTraceBuffer;
+
+    @ReadOperation
+    public List<RequestTrace> traces() {
+        return requestTraceBuffer.recent();
+    }
+}
@@ -0,0 +1,50 @@
+package com.withme.api.config.trace;
+
+/**
+ * 현재 요청 스레드의 트레이스 구간 관리 (RequestTraceFilter 가 루트 구간을 열고 닫음)
+ */
+public final class RequestTracer {
+
+    private static final ThreadLocal<TraceSpan> CURRENT = new ThreadLocal<>();
+
+    private RequestTracer() {
+    }
+
+    public static TraceSpan start(String name) {
+        TraceSpan root = new TraceSpan(name, null);
+        CURRENT.set(root);
+        return root;
+    }
+
+    /**
+     * 현재 구간의 하위 구간 시작 (진행 중인 트레이스가 없으면 아무것도 기록하지 않는 구간을 반환)
+     * */
+    public static TraceSpan span(String name) {
+        TraceSpan parent = CURRENT.get();
+        if (parent == null) return TraceSpan.NOOP;
+
+        TraceSpan span = new TraceSpan(name, parent);
+        parent.getChildren().add(span);
+        CURRENT.set(span);
+        return span;
+    }
+
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void end(TraceSpan span) {
+        if (span == TraceSpan.NOOP) return;
+
+        span.finish();
+        if (span.getParent() == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(span.getParent());
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,49 @@
+package com.withme.api.config.trace;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.withme.api.config.SqlStatementCounter;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 트레이스의 구간 하나 (이름, 소요 시간, 구간 안에서 실행된 SQL 수, 하위 구간)
+ * NOTE 시작한 곳의 finally 블록에서 close() 로 닫음, 요청 스레드 밖에서 시작한 구간은 기록하지 않음(NOOP)
+ */
+@Getter
+public class TraceSpan {
+
+    static final TraceSpan NOOP = new TraceSpan("noop", null);
+
+    private final String name;
+    @JsonIgnore
+    private final TraceSpan parent;
+    @JsonIgnore
+    private final long startNanos;
+    @JsonIgnore
+    private final int startSqlCount;
+    private long durationNanos;
+    private int sqlCount;
+    private final List<TraceSpan> children = new ArrayList<>(2);
+
+    TraceSpan(String name, TraceSpan parent) {
+        this.name = name;
+        this.parent = parent;
+        this.startNanos = System.nanoTime();
+        this.startSqlCount = SqlStatementCounter.current();
+    }
+
+    void finish() {
+        durationNanos = System.nanoTime() - startNanos;
+        sqlCount = SqlStatementCounter.current() - startSqlCount;
+    }
+
+    public double getDurationMillis() {
+        return durationNanos / 1_000_000.0;
+    }
+
+    public void close() {
+        RequestTracer.end(this);
+    }
+}
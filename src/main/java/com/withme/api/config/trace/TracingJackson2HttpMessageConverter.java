@@ -0,0 +1,30 @@
+package com.withme.api.config.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 응답 직렬화 시간을 요청 트레이스의 serialize 구간으로 기록
+ * NOTE 응답 스트림에 바로 쓰므로 클라이언트로 전송하는 시간도 포함될 수 있음
+ */
+public class TracingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public TracingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        TraceSpan span = RequestTracer.span("serialize");
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            span.close();
+        }
+    }
+}
@@ -11,10 +11,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.persistence.EntityNotFoundException;
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.HashMap;
@@ -32,7 +34,7 @@ public class TeamController {
 
     @Operation(
             summary = "팀 리스트 조회"
-            , description = "팀 리스트를 검색, 정렬 기능으로 조회한다."
+            , description = "팀 리스트를 검색, 정렬 기능으로 조회한다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회한다."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -64,7 +66,7 @@ public class TeamController {
         try {
             log.info("params = " + params);
             params.getSkills().forEach(v -> System.out.println("v = " + v));
-            List<TeamListResponseDto> teamData = teamService.getTeamList(params);
+            TeamListPageResponseDto teamData = teamService.getTeamList(params);
             log.info("teamData : " + teamData);
             if (teamData != null){
                 return new ResponseEntity<>(teamData, HttpStatus.OK);
@@ -76,6 +78,9 @@ public class TeamController {
             log.warn("[ERROR] : 팀 조회시 조건에 맞는 팀이 존재하지 않음");
             e.printStackTrace();
             return new ResponseEntity<>("팀 조회중 값을 찾지 못함", HttpStatus.UNPROCESSABLE_ENTITY);
+        }catch (IllegalArgumentException e){
+            log.warn("[ERROR] : 팀 조회시 검색 조건 오류 - {}", e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }catch (Exception e){
             log.warn("[ERROR] : 팀 조회시 오류");
             e.printStackTrace();
@@ -138,13 +143,21 @@ public class TeamController {
 
     @Operation(
             summary = "팀 상세정보 조회"
-            , description = "팀 상세정보를 조회한다."
+            , description = "팀 상세정보를 조회한다. 응답의 ETag를 If-None-Match 헤더로 전달하면 변경이 없을 때 본문 없이 304를 응답한다."
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "201"
                     , description = "팀 상세정보 조회 성공"
             ),
+            @ApiResponse(
+                    responseCode = "304"
+                    , description = "팀 상세정보 변경 없음 (If-None-Match 와 ETag 가 같음)"
+            ),
+            @ApiResponse(
+                    responseCode = "404"
+                    , description = "팀 상세정보 조회 실패 (팀 없음)"
+            ),
             @ApiResponse(
                     responseCode = "422"
                     , description = "팀 상세정보 조회 실패"
@@ -159,10 +172,19 @@ public class TeamController {
             , @RequestHeader("Authorization") String authHeader) {
         Map<String, Object> result = new HashMap<>();
         try{
+            // NOTE 본문을 만들기 전의 버전으로 ETag 생성 (그 사이 변경되면 다음 요청에서 다시 내려받음)
+            List<TeamDetailRecommendReaponseDto> teamReco = teamService.getTeamRecommend(teamId);
+            String eTag = teamService.getTeamDetailETag(teamId, authHeader, teamReco);
+            if (teamService.isTeamDetailNotModified(teamId, eTag, request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
             result.put("teamDetail", teamService.getTeamListByTeamId(teamId, authHeader));
-            result.put("teamReco", teamService.getTeamRecommend(teamId));
+            result.put("teamReco", teamReco);
             result.put("status", 201);
-            return new ResponseEntity<>(result, HttpStatus.CREATED);
+            return ResponseEntity.status(HttpStatus.CREATED).eTag(eTag).body(result);
+        }catch (EntityNotFoundException e){
+            // NOTE 팀 없음은 공통 예외 처리(404)로 응답
+            throw e;
         }catch (NullPointerException e){
             e.printStackTrace();
             result.put("status", 422);
@@ -173,6 +195,54 @@ public class TeamController {
             return new ResponseEntity<>(result, HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+    @Operation(
+            summary = "팀 댓글 페이지 조회"
+            , description = "팀 댓글을 최신순으로 조회한다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회한다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200"
+                    , description = "팀 댓글 조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "422"
+                    , description = "팀 댓글 조회 실패 (팀이 조회되지않음)"
+            )
+    })
+    @GetMapping("/team/{teamId}/comments")
+    public ResponseEntity teamCommentList(
+            @PathVariable(value = "teamId") Long teamId
+            , @RequestParam(value = "cursor", required = false) Long cursor
+            , @RequestParam(value = "size", required = false) Integer size
+            , @RequestHeader("Authorization") String authHeader) {
+        try {
+            return new ResponseEntity<>(teamService.getTeamCommentPage(teamId, cursor, size, authHeader), HttpStatus.OK);
+        }catch (IllegalArgumentException e){
+            log.warn("[ERROR] : 팀 댓글 조회시 팀이 조회되지않음");
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+        }
+    }
+
+    @Operation(
+            summary = "팀 대댓글 페이지 조회"
+            , description = "댓글의 대댓글을 등록순으로 조회한다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 다음 페이지를 조회한다."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200"
+                    , description = "팀 대댓글 조회 성공"
+            )
+    })
+    @GetMapping("/team/{teamId}/comments/{commentId}/children")
+    public ResponseEntity teamChildrenCommentList(
+            @PathVariable(value = "teamId") Long teamId
+            , @PathVariable(value = "commentId") Long commentId
+            , @RequestParam(value = "cursor", required = false) Long cursor
+            , @RequestParam(value = "size", required = false) Integer size
+            , @RequestHeader("Authorization") String authHeader) {
+        return new ResponseEntity<>(teamService.getTeamChildrenCommentPage(teamId, commentId, cursor, size, authHeader), HttpStatus.OK);
+    }
+
     @Operation(
             summary = "팀 게시물 제목, 내용 업데이트"
             , description = "팀 제목, 내용을 업데이트한다."
@@ -264,41 +334,123 @@ public class TeamController {
 
     @Operation(
             summary = "팀 좋아요 등록, 삭제"
-            , description = "팀를 좋아요 등록, 삭제한다"
+            , description = "팀를 좋아요 등록, 삭제한다 (이미 좋아요한 경우 삭제)"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "201"
                     , description = "팀 좋아요 등록, 삭제 성공"
+                    , content = @Content(schema = @Schema(implementation = TeamLikeResponseDto.class))
             )
     })
     @PostMapping("/team/{teamId}/team-like")
-    public ResponseEntity createTeamLike(
+    public ResponseEntity<TeamLikeResponseDto> createTeamLike(
             @PathVariable(value = "teamId") Long teamId
             ,@RequestHeader("Authorization") String authHeader
     ) {
-        teamService.teamLike(teamId, authHeader);
-        return new ResponseEntity<>(HttpStatus.CREATED);
+        return new ResponseEntity<>(teamService.teamLike(teamId, authHeader), HttpStatus.CREATED);
+    }
+
+    @Operation(
+            summary = "팀 좋아요 등록"
+            , description = "팀을 좋아요 등록한다 (여러 번 요청해도 한 번만 등록)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200"
+                    , description = "팀 좋아요 등록 성공"
+                    , content = @Content(schema = @Schema(implementation = TeamLikeResponseDto.class))
+            )
+            , @ApiResponse(responseCode = "404", description = "id에 일치하는 팀 없음", content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class)))
+    })
+    @PutMapping("/team/{teamId}/team-like")
+    public ResponseEntity<TeamLikeResponseDto> likeTeam(
+            @PathVariable(value = "teamId") Long teamId
+            ,@RequestHeader("Authorization") String authHeader
+    ) {
+        return ResponseEntity.ok(teamService.likeTeam(teamId, authHeader));
+    }
+
+    @Operation(
+            summary = "팀 좋아요 취소"
+            , description = "팀 좋아요를 취소한다 (여러 번 요청해도 결과 동일)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200"
+                    , description = "팀 좋아요 취소 성공"
+                    , content = @Content(schema = @Schema(implementation = TeamLikeResponseDto.class))
+            )
+            , @ApiResponse(responseCode = "404", description = "id에 일치하는 팀 없음", content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class)))
+    })
+    @DeleteMapping("/team/{teamId}/team-like")
+    public ResponseEntity<TeamLikeResponseDto> unlikeTeam(
+            @PathVariable(value = "teamId") Long teamId
+            ,@RequestHeader("Authorization") String authHeader
+    ) {
+        return ResponseEntity.ok(teamService.unlikeTeam(teamId, authHeader));
     }
 
     @Operation(
             summary = "댓글 좋아요 등록, 삭제"
-            , description = "팀를 좋아요 등록, 삭제한다"
+            , description = "팀를 좋아요 등록, 삭제한다 (이미 좋아요한 경우 삭제)"
     )
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "201"
                     , description = "댓글 좋아요 등록, 삭제 성공"
+                    , content = @Content(schema = @Schema(implementation = CommentLikeResponseDto.class))
             )
     })
     @PostMapping("/team/{teamId}/comment-like")
-    public ResponseEntity createCommnetLike(
+    public ResponseEntity<CommentLikeResponseDto> createCommnetLike(
             @PathVariable(value = "teamId") Long teamId
             ,@RequestBody @Valid CommentLikeRequestDto dto
             ,@RequestHeader("Authorization") String authHeader
     ) {
-        teamService.commentLike(teamId, dto, authHeader);
-        return new ResponseEntity<>(HttpStatus.CREATED);
+        return new ResponseEntity<>(teamService.commentLike(teamId, dto, authHeader), HttpStatus.CREATED);
+    }
+
+    @Operation(
+            summary = "댓글 좋아요 등록"
+            , description = "댓글을 좋아요 등록한다 (여러 번 요청해도 한 번만 등록)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200"
+                    , description = "댓글 좋아요 등록 성공"
+                    , content = @Content(schema = @Schema(implementation = CommentLikeResponseDto.class))
+            )
+            , @ApiResponse(responseCode = "404", description = "팀에 일치하는 댓글 없음", content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class)))
+    })
+    @PutMapping("/team/{teamId}/comment-like/{commentId}")
+    public ResponseEntity<CommentLikeResponseDto> likeComment(
+            @PathVariable(value = "teamId") Long teamId
+            ,@PathVariable(value = "commentId") Long commentId
+            ,@RequestHeader("Authorization") String authHeader
+    ) {
+        return ResponseEntity.ok(teamService.likeComment(teamId, commentId, authHeader));
+    }
+
+    @Operation(
+            summary = "댓글 좋아요 취소"
+            , description = "댓글 좋아요를 취소한다 (여러 번 요청해도 결과 동일)"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200"
+                    , description = "댓글 좋아요 취소 성공"
+                    , content = @Content(schema = @Schema(implementation = CommentLikeResponseDto.class))
+            )
+            , @ApiResponse(responseCode = "404", description = "팀에 일치하는 댓글 없음", content = @Content(schema = @Schema(implementation = ExceptionResponseDto.class)))
+    })
+    @DeleteMapping("/team/{teamId}/comment-like/{commentId}")
+    public ResponseEntity<CommentLikeResponseDto> unlikeComment(
+            @PathVariable(value = "teamId") Long teamId
+            ,@PathVariable(value = "commentId") Long commentId
+            ,@RequestHeader("Authorization") String authHeader
+    ) {
+        return ResponseEntity.ok(teamService.unlikeComment(teamId, commentId, authHeader));
     }
 
     @Operation(summary = "공지사항 작성", description = "팀 공지사항을 작성한다.")
@@ -0,0 +1,32 @@
+package com.withme.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "댓글 좋아요 응답 DTO 객체")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CommentLikeResponseDto {
+
+    @Schema(description = "팀 id", example = "1", required = true)
+    private Long teamId;
+
+    @Schema(description = "팀 댓글 id", example = "1", required = true)
+    private Long commentId;
+
+    @Schema(description = "사용자 좋아요 여부", example = "true", required = true)
+    private boolean commentLike;
+
+    @Schema(description = "댓글 좋아요 개수", example = "3", required = true)
+    private Integer commentLikeCount;
+
+    public CommentLikeResponseDto(Long teamId, Long commentId, boolean commentLike, Integer commentLikeCount) {
+        this.teamId = teamId;
+        this.commentId = commentId;
+        this.commentLike = commentLike;
+        this.commentLikeCount = commentLikeCount;
+    }
+}
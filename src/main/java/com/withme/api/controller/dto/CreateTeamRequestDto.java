@@ -6,6 +6,7 @@ import com.withme.api.domain.team.Status;
 import com.withme.api.domain.team.Team;
 import com.withme.api.domain.team.TeamCategory;
 import com.withme.api.domain.teamSkill.TeamSkill;
+import com.withme.api.service.SkillCatalog;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
@@ -57,16 +58,16 @@ public class CreateTeamRequestDto {
                 .status(Status.HIDDEN)
                 .build();
     }
-    // NOTE TeamSkill 세팅
-    public Team setTeamSkill() {
+    // NOTE TeamSkill 세팅 (Skill 은 기준 데이터에서 가져옴)
+    public Team setTeamSkill(SkillCatalog skillCatalog) {
         Team team = toTeam();
         this.getSkills().forEach(
-                v -> this.setTeamSkillAndSkill(v, team));
+                v -> this.setTeamSkillAndSkill(skillCatalog.get(v), team));
         return team;
     }
 
-    public void setTeamSkillAndSkill(SkillName skillName, Team team) {
-        team.addTeamSkill(new TeamSkill(team, new Skill(skillName)));
+    public void setTeamSkillAndSkill(Skill skill, Team team) {
+        team.addTeamSkill(new TeamSkill(team, skill));
     }
 
 }
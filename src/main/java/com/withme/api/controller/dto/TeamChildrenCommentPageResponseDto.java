@@ -0,0 +1,26 @@
+package com.withme.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Schema(description = "팀 대댓글 페이지 응답 DTO 객체")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamChildrenCommentPageResponseDto {
+
+    @Schema(description = "팀 대댓글")
+    private List<TeamChildrenCommentResponse> comments;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "12")
+    private Long nextCursor;
+
+    public TeamChildrenCommentPageResponseDto(List<TeamChildrenCommentResponse> comments, Long nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+}
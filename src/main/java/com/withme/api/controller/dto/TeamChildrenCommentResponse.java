@@ -1,7 +1,6 @@
 package com.withme.api.controller.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.withme.api.domain.commentLike.CommentLike;
 import com.withme.api.domain.teamComment.TeamComment;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -9,6 +8,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Schema(description = "팀 대댓글 응답 DTO 객체")
 @Getter
@@ -42,7 +42,7 @@ public class TeamChildrenCommentResponse {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime updateDate;
 
-    public TeamChildrenCommentResponse(TeamComment teamComment, Long userId) {
+    public TeamChildrenCommentResponse(TeamComment teamComment, Set<Long> likedCommentIds) {
         if (teamComment.getParent() == null || teamComment.getParent().getId() == null){
             this.parentId = 0L;
         }else{
@@ -57,15 +57,19 @@ public class TeamChildrenCommentResponse {
         this.commentLikeCount = teamComment.getCommentLikeCount();
 
         // NOTE 대댓글 좋아요 여부
-        if (teamComment.getCommentLike().size() != 0){
-            CommentLike commentLike = teamComment.getCommentLike().stream()
-                    .filter(v -> v.getUser().getId() == userId)
-                    .findAny().orElseGet(CommentLike::new);
+        this.commentLike = likedCommentIds.contains(teamComment.getId());
+    }
 
-            this.commentLike = commentLike.getId() != null;
-        }else {
-            this.commentLike = false;
-        }
+    public TeamChildrenCommentResponse(TeamChildrenCommentResponse snapshot, Set<Long> likedCommentIds) {
+        this.parentId = snapshot.getParentId();
+        this.id = snapshot.getId();
+        this.content = snapshot.getContent();
+        this.teamUserid = snapshot.getTeamUserid();
+        this.teamUserNickName = snapshot.getTeamUserNickName();
+        this.createDate = snapshot.getCreateDate();
+        this.updateDate = snapshot.getUpdateDate();
+        this.commentLikeCount = snapshot.getCommentLikeCount();
+        this.commentLike = likedCommentIds.contains(snapshot.getId());
     }
 
 }
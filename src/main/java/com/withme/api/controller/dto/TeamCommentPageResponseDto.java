@@ -0,0 +1,30 @@
+package com.withme.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Schema(description = "팀 댓글 페이지 응답 DTO 객체")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamCommentPageResponseDto {
+
+    @Schema(description = "팀 댓글 (대댓글 미리보기 포함)")
+    private List<TeamCommentResponseDto> comments;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "10")
+    private Long nextCursor;
+
+    @Schema(description = "팀 전체 댓글 수 (대댓글 포함)", example = "35")
+    private Integer totalCount;
+
+    public TeamCommentPageResponseDto(List<TeamCommentResponseDto> comments, Long nextCursor, Integer totalCount) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+        this.totalCount = totalCount;
+    }
+}
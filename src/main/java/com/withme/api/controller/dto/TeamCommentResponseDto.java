@@ -1,7 +1,6 @@
 package com.withme.api.controller.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.withme.api.domain.commentLike.CommentLike;
 import com.withme.api.domain.teamComment.TeamComment;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -10,6 +9,8 @@ import lombok.Setter;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Schema(description = "팀 댓글 응답 DTO 객체")
 @Getter
@@ -46,7 +47,10 @@ public class TeamCommentResponseDto {
     @Schema(description = "팀 대댓글", example = "대댓글")
     private List<TeamChildrenCommentResponse> commentChildren;
 
-    public TeamCommentResponseDto(TeamComment teamComment, Long userId) {
+    @Schema(description = "대댓글 다음 페이지 커서 (대댓글 조회 API의 cursor, 없으면 null)", example = "12")
+    private Long commentChildrenNextCursor;
+
+    public TeamCommentResponseDto(TeamComment teamComment, Set<Long> likedCommentIds) {
         if (teamComment.getParent() == null || teamComment.getParent().getId() == null){
             this.parentId = 0L;
         }else{
@@ -61,14 +65,27 @@ public class TeamCommentResponseDto {
         this.commentLikeCount = teamComment.getCommentLikeCount();
 
         // NOTE 댓글 좋아요 여부
-        if (teamComment.getCommentLike().size() != 0){
-            CommentLike commentLike = teamComment.getCommentLike().stream()
-                    .filter(v -> v.getUser().getId() == userId)
-                    .findAny().orElseGet(CommentLike::new);
-
-            this.commentLike = commentLike.getId() != null;
-        }else {
-            this.commentLike = false;
+        this.commentLike = likedCommentIds.contains(teamComment.getId());
+    }
+
+    /**
+     * 캐시된 댓글 복사 (댓글, 대댓글 좋아요 여부만 사용자 기준으로 다시 계산)
+     * */
+    public TeamCommentResponseDto(TeamCommentResponseDto snapshot, Set<Long> likedCommentIds) {
+        this.parentId = snapshot.getParentId();
+        this.id = snapshot.getId();
+        this.content = snapshot.getContent();
+        this.teamUserid = snapshot.getTeamUserid();
+        this.teamUserNickName = snapshot.getTeamUserNickName();
+        this.createDate = snapshot.getCreateDate();
+        this.updateDate = snapshot.getUpdateDate();
+        this.commentLikeCount = snapshot.getCommentLikeCount();
+        this.commentChildrenNextCursor = snapshot.getCommentChildrenNextCursor();
+        this.commentLike = likedCommentIds.contains(snapshot.getId());
+        if (snapshot.getCommentChildren() != null) {
+            this.commentChildren = snapshot.getCommentChildren().stream()
+                    .map(child -> new TeamChildrenCommentResponse(child, likedCommentIds))
+                    .collect(Collectors.toList());
         }
     }
 
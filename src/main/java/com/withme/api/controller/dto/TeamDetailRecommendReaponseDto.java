@@ -22,4 +22,9 @@ public class TeamDetailRecommendReaponseDto {
         this.id = team.getId();
         this.title = team.getTitle();
     }
+
+    public TeamDetailRecommendReaponseDto(Long id, String title) {
+        this.id = id;
+        this.title = title;
+    }
 }
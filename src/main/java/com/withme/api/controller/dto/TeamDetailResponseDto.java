@@ -1,10 +1,11 @@
 package com.withme.api.controller.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.Status;
 import com.withme.api.domain.team.Team;
 import com.withme.api.domain.team.TeamCategory;
-import com.withme.api.domain.teamLike.TeamLike;
 import com.withme.api.domain.teamUser.TeamUser;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -68,16 +69,24 @@ public class TeamDetailResponseDto {
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss", timezone = "Asia/Seoul")
     private LocalDateTime updateDate;
 
-    @Schema(description = "팀 댓글", example = "{'comment' : {}")
+    @Schema(description = "팀 댓글 (첫 페이지)", example = "{'comment' : {}")
     private List<TeamCommentResponseDto> teamComments;
 
-    public TeamDetailResponseDto(Team team, List<TeamCommentResponseDto> teamComments, TeamUser teamUser, Long userId) {
+    @Schema(description = "팀 댓글 다음 페이지 커서 (댓글 조회 API의 cursor, 없으면 null)", example = "10")
+    private Long commentNextCursor;
+
+    // NOTE 응답에는 포함하지 않음 (캐시된 스냅샷으로 304 응답 가능 여부 확인용)
+    @JsonIgnore
+    private Status status;
+
+    public TeamDetailResponseDto(Team team, List<TeamCommentResponseDto> teamComments, TeamUser teamUser, boolean teamLike) {
         this.id = team.getId();
         this.title = team.getTitle();
         this.content = team.getContent();
         this.teamName = team.getTeamName();
         this.teamDesc = team.getTeamDesc();
         this.teamCategory = team.getTeamCategory();
+        this.status = team.getStatus();
         this.viewCount = team.getViewCount();
         this.commentCount = team.getCommentCount();
         this.teamLikeCount = team.getTeamLikeCount();
@@ -98,15 +107,30 @@ public class TeamDetailResponseDto {
         }
 
         // NOTE 팀 좋아요 여부
-        if (team.getTeamLike().size() != 0){
-            TeamLike teamLike = team.getTeamLike().stream()
-                    .filter(v -> v.getUser().getId() == userId)
-                    .findAny().orElseGet(TeamLike::new);
-
-            this.teamLike = teamLike.getId() != null;
-        }else {
-            this.teamLike = false;
-        }
+        this.teamLike = teamLike;
+    }
 
+    /**
+     * 캐시된 상세 스냅샷 복사 (사용자별 값인 좋아요 여부, 댓글만 교체)
+     * */
+    public TeamDetailResponseDto(TeamDetailResponseDto snapshot, List<TeamCommentResponseDto> teamComments, boolean teamLike) {
+        this.id = snapshot.getId();
+        this.title = snapshot.getTitle();
+        this.content = snapshot.getContent();
+        this.teamName = snapshot.getTeamName();
+        this.teamDesc = snapshot.getTeamDesc();
+        this.teamCategory = snapshot.getTeamCategory();
+        this.status = snapshot.getStatus();
+        this.viewCount = snapshot.getViewCount();
+        this.commentCount = snapshot.getCommentCount();
+        this.teamLikeCount = snapshot.getTeamLikeCount();
+        this.teamSkills = snapshot.getTeamSkills();
+        this.teamUserid = snapshot.getTeamUserid();
+        this.teamUserNickName = snapshot.getTeamUserNickName();
+        this.createDate = snapshot.getCreateDate();
+        this.updateDate = snapshot.getUpdateDate();
+        this.commentNextCursor = snapshot.getCommentNextCursor();
+        this.teamComments = teamComments;
+        this.teamLike = teamLike;
     }
 }
@@ -0,0 +1,28 @@
+package com.withme.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "팀 좋아요 응답 DTO 객체")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamLikeResponseDto {
+
+    @Schema(description = "팀 id", example = "1", required = true)
+    private Long teamId;
+
+    @Schema(description = "사용자 좋아요 여부", example = "true", required = true)
+    private boolean teamLike;
+
+    @Schema(description = "팀 좋아요 개수", example = "3", required = true)
+    private Integer teamLikeCount;
+
+    public TeamLikeResponseDto(Long teamId, boolean teamLike, Integer teamLikeCount) {
+        this.teamId = teamId;
+        this.teamLike = teamLike;
+        this.teamLikeCount = teamLikeCount;
+    }
+}
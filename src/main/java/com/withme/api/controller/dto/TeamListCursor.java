@@ -0,0 +1,79 @@
+package com.withme.api.controller.dto;
+
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamSortType;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 팀 리스트 키셋 페이지 커서 (정렬값, team_idx)
+ * 클라이언트에는 Base64 문자열로 전달 ("정렬기준,정렬값,id", 이전 형식 "createdTime,id" 도 등록순 커서로 해석)
+ */
+@Getter
+public class TeamListCursor {
+
+    private static final String DELIMITER = ",";
+
+    private final TeamSortType sortType;
+    // NOTE 등록순이면 LocalDateTime, 조회수/좋아요순이면 Integer
+    private final Object value;
+    private final Long id;
+
+    public TeamListCursor(LocalDateTime createdTime, Long id) {
+        this(TeamSortType.CREATED, createdTime, id);
+    }
+
+    private TeamListCursor(TeamSortType sortType, Object value, Long id) {
+        this.sortType = sortType;
+        this.value = value;
+        this.id = id;
+    }
+
+    /**
+     * 페이지 마지막 팀으로 다음 페이지 커서 생성
+     * */
+    public static TeamListCursor of(TeamSortType sortType, Team team) {
+        switch (sortType) {
+            case VIEWS:
+                return new TeamListCursor(sortType, team.getViewCount(), team.getId());
+            case LIKES:
+                return new TeamListCursor(sortType, team.getTeamLikeCount(), team.getId());
+            default:
+                return new TeamListCursor(team.getCreatedTime(), team.getId());
+        }
+    }
+
+    /**
+     * 커서 문자열 해석 (빈 값이면 첫 페이지로 null, 요청한 정렬 기준과 커서의 정렬 기준이 다르면 예외)
+     * */
+    public static TeamListCursor decode(String cursor, TeamSortType sortType) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = decoded.split(DELIMITER);
+            TeamSortType cursorSortType = values.length == 2 ? TeamSortType.CREATED : TeamSortType.valueOf(values[0]);
+            if (cursorSortType != sortType) throw new IllegalArgumentException();
+
+            String value = values[values.length - 2];
+            Long id = Long.parseLong(values[values.length - 1]);
+            return sortType == TeamSortType.CREATED
+                    ? new TeamListCursor(LocalDateTime.parse(value), id)
+                    : new TeamListCursor(sortType, Integer.parseInt(value), id);
+        } catch (IllegalArgumentException | DateTimeParseException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서 값 : " + cursor);
+        }
+    }
+
+    public LocalDateTime getCreatedTime() {
+        return this.sortType == TeamSortType.CREATED ? (LocalDateTime) this.value : null;
+    }
+
+    public String encode() {
+        String value = this.sortType + DELIMITER + this.value + DELIMITER + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,26 @@
+package com.withme.api.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Schema(description = "팀 리스트 페이지 응답 DTO 객체")
+@Getter
+@Setter
+@NoArgsConstructor
+public class TeamListPageResponseDto {
+
+    @Schema(description = "팀 리스트")
+    private List<TeamListResponseDto> teams;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyMi0wMS0wMVQxNDoyMToxMiw1")
+    private String nextCursor;
+
+    public TeamListPageResponseDto(List<TeamListResponseDto> teams, String nextCursor) {
+        this.teams = teams;
+        this.nextCursor = nextCursor;
+    }
+}
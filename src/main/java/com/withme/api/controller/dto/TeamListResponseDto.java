@@ -1,15 +1,10 @@
 package com.withme.api.controller.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
-import com.withme.api.domain.skill.Skill;
 import com.withme.api.domain.skill.SkillName;
-import com.withme.api.domain.team.Status;
 import com.withme.api.domain.team.Team;
 import com.withme.api.domain.team.TeamCategory;
-import com.withme.api.domain.teamSkill.TeamSkill;
-import com.withme.api.domain.teamUser.TeamUser;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -62,7 +57,8 @@ public class TeamListResponseDto {
         this.teamCategory = team.getTeamCategory();
         this.createDate = team.getCreatedTime();
         this.updateDate = team.getModifiedTime();
-        this.teamSkills = team.getTeamSkillNameList();
+        // NOTE 팀 스킬 컬렉션(지연 로딩)을 조회하지 않고 비트마스크로 복원 (팀마다 추가 쿼리 방지)
+        this.teamSkills = SkillName.fromBitmask(team.getSkillMask());
         this.viewCount = team.getViewCount();
         this.commentCount = team.getCommentCount();
         this.teamLikeCount = team.getTeamLikeCount();
@@ -2,15 +2,22 @@ package com.withme.api.controller.dto;
 
 import com.withme.api.domain.skill.Skill;
 import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamSearchCondition;
+import com.withme.api.domain.team.TeamSkillMatch;
+import com.withme.api.domain.team.TeamSortType;
 import com.withme.api.domain.teamSkill.TeamSkill;
+import com.withme.api.service.SkillCatalog;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
-import java.util.ArrayList;
+import javax.validation.constraints.Size;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -22,25 +29,81 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 public class TeamSearchDto {
 
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     @Schema(description = "팀 스킬", allowableValues = {"nodejs", "java"}, required = true)
     @NotNull
     private List<SkillName> skills;
 
+    @Schema(description = "팀 스킬 검색 방식 (ANY : 하나라도 포함, ALL : 모두 포함)", defaultValue = "ANY", allowableValues = {"ANY", "ALL"})
+    private TeamSkillMatch skillMatch;
+
+    @Schema(description = "팀 카테고리 (빈 값이면 전체)", allowableValues = {"STUDY", "PROJECT"})
+    private TeamCategory category;
+
+    @Schema(description = "팀 리스트 정렬 기준 (CREATED : 등록순, VIEWS : 조회수순, LIKES : 좋아요순)", defaultValue = "CREATED", allowableValues = {"CREATED", "VIEWS", "LIKES"})
+    private TeamSortType orderBy;
+
+    @Schema(description = "검색어 (팀 이름, 제목, 소개, 내용 검색, 값이 있으면 관련도 순으로 정렬하고 orderBy, sort 는 무시)", example = "스프링 스터디")
+    @Size(max = 100, message = "검색어는 100자 이하입니다.")
+    private String keyword;
+
     @Schema(description = "팀 리스트 정렬", defaultValue= "0", allowableValues = {"0", "1"}, required = true)
     @NotNull
     private int sort;
 
-    public TeamSearchDto(List<SkillName> skills, int sort) {
+    @Schema(description = "다음 페이지 커서 (첫 페이지는 빈 값)", example = "MjAyMi0wMS0wMVQxNDoyMToxMiw1")
+    private String cursor;
+
+    @Schema(description = "페이지 크기", defaultValue = "20", example = "20")
+    @Min(value = 1, message = "페이지 크기는 1 이상입니다.")
+    @Max(value = 100, message = "페이지 크기는 100 이하입니다.")
+    private Integer size;
+
+    public TeamSearchDto(List<SkillName> skills, TeamSkillMatch skillMatch, TeamCategory category, TeamSortType orderBy
+            , String keyword, int sort, String cursor, Integer size) {
         this.skills = skills;
+        this.skillMatch = skillMatch;
+        this.category = category;
+        this.orderBy = orderBy;
+        this.keyword = keyword;
         this.sort = sort;
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    public int resolvePageSize() {
+        return this.size == null ? DEFAULT_PAGE_SIZE : this.size;
+    }
+
+    public boolean hasKeyword() {
+        return this.keyword != null && !this.keyword.isBlank();
+    }
+
+    public TeamSortType resolveOrderBy() {
+        return this.orderBy == null ? TeamSortType.CREATED : this.orderBy;
+    }
+
+    /**
+     * 검색 조건으로 변환 (커서는 정렬 기준에 맞게 해석, 게시중인 팀만 조회)
+     * */
+    public TeamSearchCondition toSearchCondition() {
+        TeamSortType sortType = resolveOrderBy();
+        TeamListCursor teamListCursor = TeamListCursor.decode(this.cursor, sortType);
+        return TeamSearchCondition.builder()
+                .skillMask(SkillName.toBitmask(this.skills))
+                .skillMatch(this.skillMatch == null ? TeamSkillMatch.ANY : this.skillMatch)
+                .category(this.category)
+                .sortType(sortType)
+                // NOTE 정렬 (0 : 내림차순, 1 : 오름차순)
+                .desc(this.sort == 0)
+                .cursorValue(teamListCursor == null ? null : teamListCursor.getValue())
+                .cursorId(teamListCursor == null ? null : teamListCursor.getId())
+                .build();
     }
 
-    public List<Skill> toSkillList() {
-        List<Skill> skillList = new ArrayList<>();
-        for (SkillName names: this.getSkills()){
-            skillList.add(Skill.builder().skillName(names).build());
-        }
-        return skillList;
+    public List<Skill> toSkillList(SkillCatalog skillCatalog) {
+        return skillCatalog.getAll(this.getSkills());
     }
 
 
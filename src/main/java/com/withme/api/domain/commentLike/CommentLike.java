@@ -18,6 +18,7 @@ import static javax.persistence.FetchType.LAZY;
 @Entity
 public class CommentLike {
 
+    // NOTE 좋아요는 id 없이 INSERT IGNORE 로 등록하므로 DB 자동 증가 유지
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "comment_like_idx")
@@ -1,11 +1,16 @@
 package com.withme.api.domain.commentLike;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
@@ -14,4 +19,23 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     @Query(value = "SELECT * FROM COMMENT_LIKE CL WHERE CL.TEAM_ID =:team_id AND CL.USER_ID =:user_id AND CL.COMMENT_ID =:comment_id ", nativeQuery = true)
     Optional<CommentLike> findCommentLikeByTeamAndUserAndTeamComment(@Param("team_id") Long team_id, @Param("user_id") Long user_id, @Param("comment_id") Long comment_id);
 
+    // NOTE 사용자의 댓글 좋아요 존재 여부
+    boolean existsByTeamIdAndUserIdAndTeamCommentId(Long teamId, Long userId, Long commentId);
+
+    // NOTE 조회한 댓글 중 사용자가 좋아요한 댓글 id
+    @Query("SELECT CL.teamComment.id FROM CommentLike CL WHERE CL.team.id =:team_id AND CL.user.id =:user_id AND CL.teamComment.id IN :comment_ids")
+    Set<Long> findLikedCommentIds(@Param("team_id") Long team_id, @Param("user_id") Long user_id, @Param("comment_ids") Collection<Long> comment_ids);
+
+    // NOTE 댓글 좋아요 등록 (이미 좋아요했거나 팀의 댓글이 아니면 0 건, 동시 요청에도 유니크 제약 위반 없이 한 건만 등록)
+    // NOTE 2차 캐시 무효화 범위를 comment_like 로 한정
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.NATIVE_SPACES, value = "comment_like"))
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO COMMENT_LIKE (COMMENT_ID, USER_ID, TEAM_ID) SELECT TC.COMMENT_ID, :user_id, TC.TEAM_ID FROM TEAM_COMMENT TC WHERE TC.COMMENT_ID =:comment_id AND TC.TEAM_ID =:team_id", nativeQuery = true)
+    int insertCommentLike(@Param("team_id") Long team_id, @Param("user_id") Long user_id, @Param("comment_id") Long comment_id);
+
+    // NOTE 댓글 좋아요 취소 (좋아요하지 않았으면 0 건)
+    @Modifying
+    @Query("DELETE FROM CommentLike CL WHERE CL.team.id =:team_id AND CL.user.id =:user_id AND CL.teamComment.id =:comment_id")
+    int deleteCommentLike(@Param("team_id") Long team_id, @Param("user_id") Long user_id, @Param("comment_id") Long comment_id);
+
 }
@@ -9,6 +9,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -17,6 +19,9 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 @Entity
+// NOTE 스킬은 기동 시 등록 후 변경되지 않는 기준 데이터라 읽기 전용 2차 캐시 사용
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "skill")
 //@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY)
 public class Skill {
 
@@ -1,5 +1,13 @@
 package com.withme.api.domain.skill;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 스킬 이름
+ * NOTE 선언 순서가 팀 스킬 비트마스크(Team.skillMask)의 비트 위치이므로 새 스킬은 반드시 마지막에 추가
+ * */
 public enum SkillName {
     android
     ,angular
@@ -32,4 +40,35 @@ public enum SkillName {
     ,typescript
     ,ubuntu
     ,vue
+    ;
+
+    /**
+     * 스킬 비트마스크 값
+     * */
+    public long getMask() {
+        return 1L << this.ordinal();
+    }
+
+    /**
+     * 스킬 리스트를 비트마스크로 변환
+     * */
+    public static long toBitmask(Collection<SkillName> skillNames) {
+        long mask = 0L;
+        if (skillNames == null) return mask;
+        for (SkillName skillName : skillNames) {
+            mask |= skillName.getMask();
+        }
+        return mask;
+    }
+
+    /**
+     * 비트마스크를 스킬 리스트로 변환 (선언 순서)
+     * */
+    public static List<SkillName> fromBitmask(long mask) {
+        List<SkillName> skillNames = new ArrayList<>(Long.bitCount(mask));
+        for (SkillName skillName : values()) {
+            if ((mask & skillName.getMask()) != 0) skillNames.add(skillName);
+        }
+        return skillNames;
+    }
 }
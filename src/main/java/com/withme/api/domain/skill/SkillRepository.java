@@ -0,0 +1,8 @@
+package com.withme.api.domain.skill;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SkillRepository extends JpaRepository<Skill, SkillName> {
+}
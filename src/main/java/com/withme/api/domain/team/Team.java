@@ -14,14 +14,17 @@ import com.withme.api.domain.teamUser.TeamUser;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicInsert;
-import org.hibernate.annotations.Formula;
 
 import javax.persistence.*;
 import java.text.SimpleDateFormat;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -30,12 +33,24 @@ import java.util.stream.Collectors;
 @NoArgsConstructor
 @Table(uniqueConstraints = {
         @UniqueConstraint(name = "TEAM_TEAMNAME_UNIQUE", columnNames = "teamName")
+}, indexes = {
+        // NOTE 팀 리스트 정렬별 키셋 조회용 (TeamSearchQuery 의 WHERE/ORDER BY 순서와 같게 유지, 기존 DB는 db/team-search-index.sql)
+        @Index(name = "TEAM_STATUS_CREATEDTIME_INDEX", columnList = "status, createdTime, team_idx")
+        , @Index(name = "TEAM_STATUS_VIEWCOUNT_ID_INDEX", columnList = "status, view_count, team_idx")
+        , @Index(name = "TEAM_STATUS_TEAMLIKECOUNT_ID_INDEX", columnList = "status, team_like_count, team_idx")
+        , @Index(name = "TEAM_STATUS_CATEGORY_CREATEDTIME_INDEX", columnList = "status, teamCategory, createdTime, team_idx")
+        , @Index(name = "TEAM_STATUS_CATEGORY_VIEWCOUNT_INDEX", columnList = "status, teamCategory, view_count, team_idx")
+        , @Index(name = "TEAM_STATUS_CATEGORY_TEAMLIKECOUNT_INDEX", columnList = "status, teamCategory, team_like_count, team_idx")
 })
 @Entity
+// NOTE 수정/삭제 시 TeamChangedEvent, TeamDeletedEvent 발행 (등록은 TeamService.createTeam 에서 발행)
+@EntityListeners(TeamEntityListener.class)
 public class Team extends BaseTimeCustomEntity {
 
    @Id
-   @GeneratedValue(strategy = GenerationType.IDENTITY)
+   // NOTE IDENTITY 는 insert 배치가 비활성화되므로 pooled 시퀀스 사용 (MySQL 은 시퀀스 테이블로 대체, 50개씩 미리 할당)
+   @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_seq")
+   @SequenceGenerator(name = "team_seq", sequenceName = "team_seq", allocationSize = 50)
    @Column(name = "team_idx")
    private Long id;
 
@@ -61,23 +76,29 @@ public class Team extends BaseTimeCustomEntity {
    @Column(name = "content", length = 1000)
    private String content;
 
-   // NOTE 팅 조회수
+   // NOTE 팀 조회수 (TeamViewCountBuffer 에서 모아서 반영, 엔티티 변경감지로는 수정하지 않음)
    @ColumnDefault("0")
-   @Column(name = "view_count", length = 100000)
-   private Integer viewCount;
+   @Column(name = "view_count", nullable = false, updatable = false)
+   private Integer viewCount = 0;
 
-   // NOTE 팀 댓글 개수
-   @Formula("(select count(1) from team_comment tc where tc.team_id = team_idx)")
+   // NOTE 팀 댓글 개수 (TeamRepository.updateCommentCount 로만 증감, 엔티티 변경감지로는 수정하지 않음)
    @ColumnDefault("0")
-   @Column(name = "comment_count", length = 1000)
-   private Integer commentCount;
+   @Column(name = "comment_count", nullable = false, updatable = false)
+   private Integer commentCount = 0;
 
-   // NOTE 팀 좋아요 개수
-   @Formula("(select count(1) from team_like tl where tl.team_idx = team_idx)")
+   // NOTE 팀 좋아요 개수 (TeamRepository.updateTeamLikeCount 로만 증감, 엔티티 변경감지로는 수정하지 않음)
    @ColumnDefault("0")
-   @Column(name = "team_like_count", length = 1000)
-   private Integer teamLikeCount;
+   @Column(name = "team_like_count", nullable = false, updatable = false)
+   private Integer teamLikeCount = 0;
 
+   // NOTE 팀 스킬 비트마스크 (SkillName 선언 순서 기준, 스킬 검색용 - teamSkills 를 바꾸는 메서드에서 함께 갱신)
+   @ColumnDefault("0")
+   @Column(name = "skill_mask", nullable = false)
+   private Long skillMask = 0L;
+
+   // NOTE 여러 팀의 스킬을 조회할 때 IN 절로 묶어서 로딩
+   @BatchSize(size = 100)
+   @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teamSkillIds")
    @OneToMany(mappedBy = "team", cascade = CascadeType.PERSIST, fetch = FetchType.LAZY)
    private List<TeamSkill> teamSkills = new ArrayList<>();
 
@@ -107,11 +128,30 @@ public class Team extends BaseTimeCustomEntity {
       this.teamDesc = teamDesc;
       this.status = status;
    }
+   /**
+    *  팀 스킬 리스트 (수정은 addTeamSkill, removeTeamSkill 로만 - 비트마스크가 어긋나지 않도록)
+    * */
+   public List<TeamSkill> getTeamSkills(){
+      return Collections.unmodifiableList(teamSkills);
+   }
    /**
     *  팀 스킬 등록
     * */
    public void addTeamSkill(TeamSkill teamSkill){
       teamSkills.add(teamSkill);
+      this.skillMask |= teamSkill.getSkill().getSkillName().getMask();
+   }
+   /**
+    *  팀 스킬 삭제
+    * */
+   public void removeTeamSkill(TeamSkill teamSkill){
+      if (teamSkills.remove(teamSkill)) refreshSkillMask();
+   }
+   /**
+    *  팀 스킬 비트마스크 재계산
+    * */
+   private void refreshSkillMask(){
+      this.skillMask = SkillName.toBitmask(this.getTeamSkillNameList());
    }
    /**
     *  팀 유저 등록
@@ -148,13 +188,6 @@ public class Team extends BaseTimeCustomEntity {
        this.setModifiedTime(LocalDateTime.now());
        return this.getId();
     }
-    /**
-     * 조회수 증가
-     * */
-    public Team addViewCount() {
-       this.viewCount += 1;
-       return this;
-    }
     /**
      * 팀 스킬이름 리스트만 가져오기
      * */
@@ -0,0 +1,32 @@
+package com.withme.api.domain.team;
+
+import lombok.Getter;
+
+/**
+ * 팀 등록/수정 이벤트 (수정은 TeamEntityListener 에서 발행)
+ * NOTE 트랜잭션 커밋 이후 팀 정보를 메모리에 들고 있는 컴포넌트(추천 인덱스 등)를 갱신할 때 사용
+ *      커밋 이후에는 엔티티를 다시 조회하지 않도록 발행 시점의 값을 담아서 전달
+ */
+@Getter
+public class TeamChangedEvent {
+
+    private final Long teamId;
+    private final String teamName;
+    private final String title;
+    private final String teamDesc;
+    private final String content;
+    private final TeamCategory teamCategory;
+    private final long skillMask;
+    private final Status status;
+
+    public TeamChangedEvent(Team team) {
+        this.teamId = team.getId();
+        this.teamName = team.getTeamName();
+        this.title = team.getTitle();
+        this.teamDesc = team.getTeamDesc();
+        this.content = team.getContent();
+        this.teamCategory = team.getTeamCategory();
+        this.skillMask = team.getSkillMask() == null ? 0L : team.getSkillMask();
+        this.status = team.getStatus();
+    }
+}
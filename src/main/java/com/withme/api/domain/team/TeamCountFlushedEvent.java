@@ -0,0 +1,19 @@
+package com.withme.api.domain.team;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 조회수/좋아요 쓰기 지연 버퍼의 DB 반영 완료 이벤트
+ * NOTE 버퍼 대기값이 DB 카운트 컬럼으로 옮겨진 팀 id (DB 값과 대기값을 따로 들고 있던 캐시는 다시 만들어야 함)
+ */
+@Getter
+public class TeamCountFlushedEvent {
+
+    private final Set<Long> teamIds;
+
+    public TeamCountFlushedEvent(Set<Long> teamIds) {
+        this.teamIds = teamIds;
+    }
+}
@@ -0,0 +1,17 @@
+package com.withme.api.domain.team;
+
+import lombok.Getter;
+
+/**
+ * 팀 삭제 이벤트
+ * NOTE 트랜잭션 커밋 이후 팀 정보를 메모리에 들고 있는 컴포넌트(추천 인덱스, 검색 색인 등)에서 제거할 때 사용
+ */
+@Getter
+public class TeamDeletedEvent {
+
+    private final Long teamId;
+
+    public TeamDeletedEvent(Long teamId) {
+        this.teamId = teamId;
+    }
+}
@@ -0,0 +1,17 @@
+package com.withme.api.domain.team;
+
+import lombok.Getter;
+
+/**
+ * 팀 상세 응답 내용 변경 이벤트 (댓글 등록/수정/삭제, 팀/댓글 좋아요)
+ * NOTE 게시물 수정은 TeamChangedEvent 로 전달
+ */
+@Getter
+public class TeamDetailChangedEvent {
+
+    private final Long teamId;
+
+    public TeamDetailChangedEvent(Long teamId) {
+        this.teamId = teamId;
+    }
+}
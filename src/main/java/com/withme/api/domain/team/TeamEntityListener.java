@@ -0,0 +1,30 @@
+package com.withme.api.domain.team;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * 팀 엔티티 수정/삭제 시 팀 변경 이벤트 발행
+ * NOTE 서비스 메서드마다 발행하지 않아도 상태 변경, 삭제가 어느 경로로 일어나든 메모리 인덱스에 반영되도록 엔티티 flush 시점에 발행
+ *      JPQL 벌크 수정/삭제는 엔티티를 거치지 않으므로 대상 아님 (카운트 컬럼 증감 등)
+ */
+@Component
+@RequiredArgsConstructor
+public class TeamEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void onUpdate(Team team) {
+        eventPublisher.publishEvent(new TeamChangedEvent(team));
+    }
+
+    @PostRemove
+    public void onRemove(Team team) {
+        eventPublisher.publishEvent(new TeamDeletedEvent(team.getId()));
+    }
+}
@@ -6,31 +6,55 @@ import com.withme.api.controller.dto.TeamListResponseDto;
 import com.withme.api.controller.dto.TeamListResponseMapping;
 import com.withme.api.domain.skill.Skill;
 import com.withme.api.domain.teamSkill.TeamSkill;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
+public interface TeamRepository extends JpaRepository<Team, Long>, TeamSearchRepository {
 
     int countTeamBy();
 
     int countTeamByTeamNameEquals(@Param("team_name") String team_name);
-    Optional<List<Team>> findAllByStatusOrderByCreatedTimeDesc(@Param("status")Status status);
 
-    Optional<List<Team>> findAllByStatusOrderByCreatedTimeAsc(@Param("status")Status status);
+    // NOTE 팀 리스트 검색은 TeamSearchRepository.search (조건 조합별 JPQL 은 TeamSearchQuery)
 
-    //@Query("SELECT T FROM Team AS T JOIN FETCH TeamSkill TS ON T = TS.team WHERE T.status =:status AND TS IN (:teamSkills)")
-    Optional<List<Team>> findDistinctTeamsByTeamSkillsInAndStatusOrderByCreatedTimeDesc(@Param("teamSkills")List<TeamSkill> teamSkills, @Param("status")Status status);
+    // NOTE 팀 댓글 개수 증감 (동시 요청에도 누락되지 않도록 DB에서 원자적으로 계산)
+    @Modifying
+    @Query("UPDATE Team T SET T.commentCount = T.commentCount + :delta WHERE T.id =:team_id")
+    int updateCommentCount(@Param("team_id") Long team_id, @Param("delta") int delta);
+
+    // NOTE 팀 좋아요 개수 증감
+    @Modifying
+    @Query("UPDATE Team T SET T.teamLikeCount = T.teamLikeCount + :delta WHERE T.id =:team_id")
+    int updateTeamLikeCount(@Param("team_id") Long team_id, @Param("delta") int delta);
+
+    // NOTE 팀 좋아요 개수만 조회
+    @Query("SELECT T.teamLikeCount FROM Team T WHERE T.id =:team_id")
+    Optional<Integer> findTeamLikeCountById(@Param("team_id") Long team_id);
+
+    // NOTE 실제 댓글/좋아요 수와 다른 팀의 카운트 보정
+    // NOTE 2차 캐시 무효화 범위를 team 으로 한정
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.NATIVE_SPACES, value = "team"))
+    @Modifying
+    @Query(value = "UPDATE team SET " +
+            "comment_count = (SELECT COUNT(1) FROM team_comment TC WHERE TC.team_id = team.team_idx), " +
+            "team_like_count = (SELECT COUNT(1) FROM team_like TL WHERE TL.team_idx = team.team_idx) " +
+            "WHERE comment_count <> (SELECT COUNT(1) FROM team_comment TC WHERE TC.team_id = team.team_idx) " +
+            "OR team_like_count <> (SELECT COUNT(1) FROM team_like TL WHERE TL.team_idx = team.team_idx)", nativeQuery = true)
+    int reconcileCounts();
 
-    Optional<List<Team>> findDistinctTeamsByTeamSkillsInAndStatusOrderByCreatedTimeAsc(@Param("teamSkills")List<TeamSkill> teamSkills, @Param("status")Status status);
     // NOTE 테스트용
     Optional<List<TeamListResponseMapping>> findDistinctTeamsByTeamSkillsInOrderByCreatedTimeDesc(@Param("teamSkills")List<TeamSkill> teamSkills);
     // NOTE 테스트용
@@ -38,6 +62,15 @@ public interface TeamRepository extends JpaRepository<Team, Long> {
 
    Optional<Team> findTeamById(@Param("teamId") Long teamId);
 
-   Optional<List<Team>> findTop5ByStatusOrderByViewCount(@Param("status") Status status);
+   // NOTE 추천 팀 후보 조회 (정렬 기준은 pageable 로 전달)
+   List<Team> findByStatus(@Param("status") Status status, Pageable pageable);
+
+   // NOTE 팀 스킬 인덱스 초기 구성용 (id, 제목, 스킬 비트마스크, 상태만 조회)
+   List<TeamSkillMaskMapping> findAllProjectedBy();
+
+   // NOTE 팀 검색 색인 구성용 (id 순으로 나눠서 조회)
+   @Query("SELECT T.id AS id, T.teamName AS teamName, T.title AS title, T.teamDesc AS teamDesc, T.content AS content" +
+           ", T.teamCategory AS teamCategory, T.skillMask AS skillMask FROM Team T WHERE T.status =:status AND T.id > :last_id ORDER BY T.id")
+   List<TeamSearchDocumentMapping> findSearchDocuments(@Param("status") Status status, @Param("last_id") Long last_id, Pageable pageable);
 
 }
@@ -0,0 +1,38 @@
+package com.withme.api.domain.team;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 팀 리스트 검색 조건
+ * NOTE 값이 없는 조건은 쿼리에서 제외 (skillMask 0, category null, cursor null)
+ */
+@Getter
+@Builder
+public class TeamSearchCondition {
+
+    // NOTE 검색 스킬 비트마스크 (SkillName.toBitmask)
+    private final long skillMask;
+
+    @Builder.Default
+    private final TeamSkillMatch skillMatch = TeamSkillMatch.ANY;
+
+    private final TeamCategory category;
+
+    @Builder.Default
+    private final Status status = Status.DISPLAYED;
+
+    @Builder.Default
+    private final TeamSortType sortType = TeamSortType.CREATED;
+
+    @Builder.Default
+    private final boolean desc = true;
+
+    // NOTE 이전 페이지 마지막 팀의 정렬값(createdTime 또는 카운트)과 id (없으면 첫 페이지)
+    private final Object cursorValue;
+    private final Long cursorId;
+
+    public boolean hasCursor() {
+        return cursorValue != null && cursorId != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.withme.api.domain.team;
+
+/**
+ * 팀 검색 색인 구성용 프로젝션 (검색 대상 문자열, 카테고리, 스킬 비트마스크만 조회)
+ */
+public interface TeamSearchDocumentMapping {
+    Long getId();
+
+    String getTeamName();
+    String getTitle();
+    String getTeamDesc();
+    String getContent();
+    TeamCategory getTeamCategory();
+    Long getSkillMask();
+}
@@ -0,0 +1,60 @@
+package com.withme.api.domain.team;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 팀 리스트 검색 JPQL
+ * NOTE 조건 조합과 관계없이 Team 단일 테이블 조회 (스킬은 skill_mask 비트 연산, team_skill 조인/DISTINCT 없음)
+ *      정렬별로 (status[, team_category], 정렬 컬럼, team_idx) 인덱스 순서 그대로 읽다가 limit 건에서 멈추도록
+ *      WHERE 는 등호 조건 + 키셋 범위 조건, ORDER BY 는 인덱스 컬럼 순서와 같게 구성
+ */
+@Getter
+public class TeamSearchQuery {
+
+    private final String jpql;
+    private final Map<String, Object> parameters;
+
+    private TeamSearchQuery(String jpql, Map<String, Object> parameters) {
+        this.jpql = jpql;
+        this.parameters = Collections.unmodifiableMap(parameters);
+    }
+
+    public static TeamSearchQuery of(TeamSearchCondition condition) {
+        StringBuilder jpql = new StringBuilder("SELECT T FROM Team T WHERE T.status =:status");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("status", condition.getStatus());
+
+        if (condition.getCategory() != null) {
+            jpql.append(" AND T.teamCategory =:category");
+            parameters.put("category", condition.getCategory());
+        }
+
+        if (condition.getSkillMask() != 0L) {
+            // NOTE bitand 반환 타입은 Dialect 마다 다르므로(H2 INTEGER) ALL 비교 시 long 으로 맞춤
+            // NOTE 비트 연산 조건은 인덱스로 찾을 수 없어 정렬 인덱스 순서로 읽은 행마다 검사하는 필터로만 동작
+            //      (limit 건을 채울 때까지 읽으므로 해당 스킬 팀이 드물수록 많은 행을 읽음 - 정렬 인덱스에 skill_mask 를 추가해도 동일)
+            jpql.append(condition.getSkillMatch() == TeamSkillMatch.ALL
+                    ? " AND cast(bitand(T.skillMask, :skill_mask) as long) = :skill_mask"
+                    : " AND bitand(T.skillMask, :skill_mask) <> 0");
+            parameters.put("skill_mask", condition.getSkillMask());
+        }
+
+        String property = "T." + condition.getSortType().getProperty();
+        String direction = condition.isDesc() ? "DESC" : "ASC";
+        if (condition.hasCursor()) {
+            String operator = condition.isDesc() ? "<" : ">";
+            jpql.append(" AND (").append(property).append(' ').append(operator).append(" :cursor_value")
+                    .append(" OR (").append(property).append(" = :cursor_value AND T.id ").append(operator).append(" :cursor_id))");
+            parameters.put("cursor_value", condition.getCursorValue());
+            parameters.put("cursor_id", condition.getCursorId());
+        }
+
+        jpql.append(" ORDER BY ").append(property).append(' ').append(direction)
+                .append(", T.id ").append(direction);
+        return new TeamSearchQuery(jpql.toString(), parameters);
+    }
+}
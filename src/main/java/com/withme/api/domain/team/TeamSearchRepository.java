@@ -0,0 +1,14 @@
+package com.withme.api.domain.team;
+
+import java.util.List;
+
+/**
+ * 팀 리스트 검색 (TeamRepository 커스텀 구현)
+ */
+public interface TeamSearchRepository {
+
+    /**
+     * 검색 조건에 맞는 팀을 정렬 순서대로 최대 limit 건 조회
+     * */
+    List<Team> search(TeamSearchCondition condition, int limit);
+}
@@ -0,0 +1,20 @@
+package com.withme.api.domain.team;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import java.util.List;
+
+public class TeamSearchRepositoryImpl implements TeamSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Team> search(TeamSearchCondition condition, int limit) {
+        TeamSearchQuery searchQuery = TeamSearchQuery.of(condition);
+        TypedQuery<Team> query = entityManager.createQuery(searchQuery.getJpql(), Team.class);
+        searchQuery.getParameters().forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.withme.api.domain.team;
+
+/**
+ * 팀 스킬 인덱스 구성용 프로젝션 (팀 전체를 엔티티로 로딩하지 않음)
+ */
+public interface TeamSkillMaskMapping {
+    Long getId();
+
+    String getTitle();
+    Long getSkillMask();
+    Status getStatus();
+}
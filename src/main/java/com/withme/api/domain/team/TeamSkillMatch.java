@@ -0,0 +1,10 @@
+package com.withme.api.domain.team;
+
+/**
+ * 팀 리스트 스킬 검색 방식
+ * NOTE ANY : 검색 스킬 중 하나라도 가진 팀, ALL : 검색 스킬을 모두 가진 팀
+ */
+public enum TeamSkillMatch {
+    ANY
+    , ALL
+}
@@ -0,0 +1,20 @@
+package com.withme.api.domain.team;
+
+import lombok.Getter;
+
+/**
+ * 팀 리스트 정렬 기준 (같은 값이면 팀 id 순)
+ * NOTE property 는 JPQL 에서 사용하는 Team 필드명
+ */
+@Getter
+public enum TeamSortType {
+    CREATED("createdTime")
+    , VIEWS("viewCount")
+    , LIKES("teamLikeCount");
+
+    private final String property;
+
+    TeamSortType(String property) {
+        this.property = property;
+    }
+}
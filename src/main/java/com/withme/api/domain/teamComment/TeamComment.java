@@ -12,31 +12,33 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.ColumnDefault;
-import org.hibernate.annotations.Formula;
 
 import javax.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 import static javax.persistence.FetchType.LAZY;
-import static javax.persistence.GenerationType.IDENTITY;
+import static javax.persistence.GenerationType.SEQUENCE;
 @Getter
 @Setter
 @NoArgsConstructor
 @Entity
+// NOTE 부모 댓글별 대댓글 미리보기 조회 (TeamCommentRepository.findChildCommentIdsPerParent)
+@Table(indexes = @Index(name = "TEAM_COMMENT_PARENT_ID_INDEX", columnList = "parent_id, comment_id"))
 public class TeamComment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = SEQUENCE, generator = "team_comment_seq")
+    @SequenceGenerator(name = "team_comment_seq", sequenceName = "team_comment_seq", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
     @Column(nullable = false, length = 1000)
     private String content;
 
-    @Formula("(select count(1) from comment_like cl where cl.comment_id = comment_id)")
+    // NOTE 댓글 좋아요 개수 (TeamCommentRepository.updateCommentLikeCount 로만 증감)
     @ColumnDefault("0")
-    @Column(name = "comment_like_count", length = 1000)
-    private Integer commentLikeCount;
+    @Column(name = "comment_like_count", nullable = false, updatable = false)
+    private Integer commentLikeCount = 0;
 
     @JsonBackReference
     @ManyToOne(fetch = LAZY)
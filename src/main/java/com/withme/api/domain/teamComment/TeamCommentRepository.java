@@ -2,20 +2,62 @@ package com.withme.api.domain.teamComment;
 
 import com.withme.api.domain.team.Team;
 import com.withme.api.domain.teamNotice.TeamNotice;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TeamCommentRepository extends JpaRepository<TeamComment, Long> {
 
+    @EntityGraph(attributePaths = "user")
     Optional<List<TeamComment>> findTeamCommentByTeamAndParentIsNullOrderByIdDesc(@Param("team") Team team);
 
-    @Query("SELECT TC FROM TeamComment TC INNER JOIN TC.parent TCP INNER JOIN TC.team TCT INNER JOIN TC.user TCU WHERE TCT.id =:team_id AND TCP.id =:comment_id ORDER BY TC.id ASC")
-    List<TeamComment> findTeamCommentsByTeamIdAndId(@Param("team_id") Long team_id, @Param("comment_id") Long comment_id);
+    // NOTE 여러 부모 댓글의 대댓글 id 를 부모당 limit 건까지만 등록순으로 조회 (parent_id, comment_id 인덱스 범위에서 번호 부여)
+    //      네이티브 쿼리의 BIGINT 는 Dialect/드라이버에 따라 BigInteger 등으로 반환되므로 Number 로 받아 변환
+    @Query(value = "SELECT R.comment_id FROM (" +
+            "SELECT TC.comment_id, ROW_NUMBER() OVER (PARTITION BY TC.parent_id ORDER BY TC.comment_id) AS rn " +
+            "FROM team_comment TC WHERE TC.team_id =:team_id AND TC.parent_id IN (:parent_ids)" +
+            ") R WHERE R.rn <= :limit", nativeQuery = true)
+    List<Number> findChildCommentIdsPerParent(@Param("team_id") Long team_id, @Param("parent_ids") Collection<Long> parent_ids, @Param("limit") int limit);
+
+    // NOTE 댓글 id 목록으로 조회 (작성자 포함)
+    @Query("SELECT TC FROM TeamComment TC JOIN FETCH TC.user WHERE TC.id IN :comment_ids ORDER BY TC.id ASC")
+    List<TeamComment> findTeamCommentsByIds(@Param("comment_ids") Collection<Long> comment_ids);
 
     @Query("SELECT TC FROM TeamComment TC WHERE TC.team.id =:team_id AND TC.id =:comment_id ORDER BY TC.id ASC")
     Optional<TeamComment> findTeamCommentByTeamIdAndId(@Param("team_id") Long team_id, @Param("comment_id") Long comment_id);
+
+    // NOTE 팀 댓글 페이지 조회 (comment_id 커서 기준 최신순)
+    @Query("SELECT TC FROM TeamComment TC JOIN FETCH TC.user WHERE TC.team.id =:team_id AND TC.parent IS NULL AND TC.id < :comment_id ORDER BY TC.id DESC")
+    List<TeamComment> findRootCommentPage(@Param("team_id") Long team_id, @Param("comment_id") Long comment_id, Pageable pageable);
+
+    // NOTE 대댓글 페이지 조회 (comment_id 커서 기준 등록순)
+    @Query("SELECT TC FROM TeamComment TC JOIN FETCH TC.user WHERE TC.team.id =:team_id AND TC.parent.id =:parent_id AND TC.id > :comment_id ORDER BY TC.id ASC")
+    List<TeamComment> findChildCommentPage(@Param("team_id") Long team_id, @Param("parent_id") Long parent_id, @Param("comment_id") Long comment_id, Pageable pageable);
+
+    // NOTE 댓글 좋아요 개수 증감 (동시 요청에도 누락되지 않도록 DB에서 원자적으로 계산)
+    @Modifying
+    @Query("UPDATE TeamComment TC SET TC.commentLikeCount = TC.commentLikeCount + :delta WHERE TC.id =:comment_id")
+    int updateCommentLikeCount(@Param("comment_id") Long comment_id, @Param("delta") int delta);
+
+    // NOTE 팀 댓글 좋아요 개수만 조회
+    @Query("SELECT TC.commentLikeCount FROM TeamComment TC WHERE TC.id =:comment_id AND TC.team.id =:team_id")
+    Optional<Integer> findCommentLikeCountById(@Param("team_id") Long team_id, @Param("comment_id") Long comment_id);
+
+    // NOTE 실제 좋아요 수와 다른 댓글의 카운트 보정
+    // NOTE 2차 캐시 무효화 범위를 team_comment 로 한정
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.NATIVE_SPACES, value = "team_comment"))
+    @Modifying
+    @Query(value = "UPDATE team_comment SET " +
+            "comment_like_count = (SELECT COUNT(1) FROM comment_like CL WHERE CL.comment_id = team_comment.comment_id) " +
+            "WHERE comment_like_count <> (SELECT COUNT(1) FROM comment_like CL WHERE CL.comment_id = team_comment.comment_id)", nativeQuery = true)
+    int reconcileCommentLikeCounts();
 }
@@ -15,6 +15,7 @@ import javax.persistence.*;
 @Entity
 public class TeamLike {
 
+    // NOTE 좋아요는 id 없이 INSERT IGNORE 로 등록하므로 DB 자동 증가 유지
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "team_like_idx")
@@ -1,10 +1,13 @@
 package com.withme.api.domain.teamLike;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.Optional;
 
 @Repository
@@ -14,5 +17,19 @@ public interface TeamLikeRepository extends JpaRepository<TeamLike, Long> {
     @Query(value = "SELECT * FROM TEAM_LIKE TL WHERE TL.TEAM_IDX =:team_id AND TL.USER_IDX =:user_id", nativeQuery = true)
     Optional<TeamLike> findTeamLikeByTeamAndUser(@Param("team_id") Long team_id, @Param("user_id") Long user_id);
 
+    // NOTE 사용자의 게시물 좋아요 존재 여부
+    boolean existsByTeamIdAndUserId(Long teamId, Long userId);
+
+    // NOTE 좋아요 등록 (이미 좋아요했거나 팀이 없으면 0 건, 동시 요청에도 유니크 제약 위반 없이 한 건만 등록)
+    // NOTE 네이티브 쿼리는 영향 테이블을 지정하지 않으면 2차 캐시 전체가 비워짐
+    @QueryHints(@QueryHint(name = org.hibernate.annotations.QueryHints.NATIVE_SPACES, value = "team_like"))
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO TEAM_LIKE (TEAM_IDX, USER_IDX) SELECT T.TEAM_IDX, :user_id FROM TEAM T WHERE T.TEAM_IDX =:team_id", nativeQuery = true)
+    int insertTeamLike(@Param("team_id") Long team_id, @Param("user_id") Long user_id);
+
+    // NOTE 좋아요 취소 (좋아요하지 않았으면 0 건)
+    @Modifying
+    @Query("DELETE FROM TeamLike TL WHERE TL.team.id =:team_id AND TL.user.id =:user_id")
+    int deleteTeamLike(@Param("team_id") Long team_id, @Param("user_id") Long user_id);
 
 }
@@ -6,16 +6,21 @@ import com.withme.api.domain.user.User;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
 @Getter
 @NoArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teamNotice")
 public class TeamNotice extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_notice_seq")
+    @SequenceGenerator(name = "team_notice_seq", sequenceName = "team_notice_seq", allocationSize = 50)
     @Column(name = "team_notice_idx")
     private Long id;
 
@@ -8,6 +8,8 @@ import com.withme.api.domain.team.Team;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
@@ -17,10 +19,14 @@ import javax.persistence.*;
         @UniqueConstraint(name = "TEAMSKILL_TEAM_SKILL_UNIQUE", columnNames = {"team_idx", "skill_name"})
 })
 @Entity
+// NOTE Team.teamSkills 컬렉션 캐시는 ID 만 저장하므로 요소 엔티티도 캐시해야 DB 조회가 생략됨
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teamSkill")
 public class TeamSkill {
     @JsonIgnore // NOTE 관계 테이블 ID는 화면에서 필요없기 때문에 제외
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_skill_seq")
+    @SequenceGenerator(name = "team_skill_seq", sequenceName = "team_skill_seq", allocationSize = 50)
     @Column(name = "team_skill_idx")
     private Long id;
 
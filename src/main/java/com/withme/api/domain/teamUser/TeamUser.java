@@ -19,7 +19,8 @@ import javax.persistence.*;
 public class TeamUser {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_user_seq")
+    @SequenceGenerator(name = "team_user_seq", sequenceName = "team_user_seq", allocationSize = 50)
     @Column(name = "team_user_idx")
     private Long id;
 
@@ -11,6 +11,8 @@ import com.withme.api.domain.teamUser.TeamUser;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 import java.util.ArrayList;
@@ -24,10 +26,14 @@ import java.util.List;
                 , @UniqueConstraint(name = "USER_NICKNAME_UNIQUE", columnNames = "nickname")
         })
 @Entity
+// NOTE 작성자/팀원 정보로 자주 조회되고 수정은 드물어 2차 캐시 사용 (만료 시간은 application.conf 의 user 리전)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
     @Column(name = "user_idx")
     private Long id;
 
@@ -1,6 +1,9 @@
 package com.withme.api.filter;
 
+import com.withme.api.config.trace.RequestTracer;
+import com.withme.api.config.trace.TraceSpan;
 import com.withme.api.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -36,23 +39,45 @@ public class JwtAuthorizationFilter extends BasicAuthenticationFilter {
         String jwt = this.resolveToken(request);
         String requestURI = request.getRequestURI();
 
-        if (tokenProvider.validateToken(jwt)) {
-            try {
-                saveAuthenticationOnSecurityContext(jwt, requestURI);
-            } catch(AccessDeniedException ex) {
-                // TODO: 2022/09/15 토큰에 문제가 없지만 토큰의 유저가 없는 경우에 403 에러를 던지고 싶은데 sendError를 해도 500 AccessDenied로 Return 됨.
-                response.sendError(HttpServletResponse.SC_FORBIDDEN);
+        TraceSpan span = RequestTracer.span("JwtAuthorizationFilter");
+        try {
+            // NOTE 서명 검증은 요청당 한 번만 하고 body는 인증 정보에 담아 재사용
+            Claims claims = parseClaims(jwt);
+            if (claims != null) {
+                try {
+                    saveAuthenticationOnSecurityContext(jwt, claims, requestURI);
+                } catch(AccessDeniedException ex) {
+                    // TODO: 2022/09/15 토큰에 문제가 없지만 토큰의 유저가 없는 경우에 403 에러를 던지고 싶은데 sendError를 해도 500 AccessDenied로 Return 됨.
+                    response.sendError(HttpServletResponse.SC_FORBIDDEN);
+                }
+            } else {
+                log.info("유효한 JWT 토큰 없음. uri : {}", requestURI);
             }
-        } else {
-            log.info("유효한 JWT 토큰 없음. uri : {}", requestURI);
+        } finally {
+            span.close();
         }
 
         chain.doFilter(request, response);
 
     }
 
-    private void saveAuthenticationOnSecurityContext(String jwt, String requestURI) {
-        Authentication authentication = tokenProvider.getAuthentication(jwt);
+    private Claims parseClaims(String jwt) {
+        TraceSpan span = RequestTracer.span("TokenProvider.parseClaims");
+        try {
+            return tokenProvider.parseClaims(jwt);
+        } finally {
+            span.close();
+        }
+    }
+
+    private void saveAuthenticationOnSecurityContext(String jwt, Claims claims, String requestURI) {
+        Authentication authentication;
+        TraceSpan span = RequestTracer.span("TokenProvider.getAuthentication");
+        try {
+            authentication = tokenProvider.getAuthentication(jwt, claims);
+        } finally {
+            span.close();
+        }
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
         log.debug("Security Context에 '{}' 인증 정보 저장. uri : {}", authentication, requestURI);
@@ -0,0 +1,104 @@
+package com.withme.api.filter;
+
+import com.withme.api.config.trace.RequestTrace;
+import com.withme.api.config.trace.RequestTraceBuffer;
+import com.withme.api.config.trace.RequestTracer;
+import com.withme.api.config.trace.TraceSpan;
+import com.withme.api.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 요청 구간별 소요 시간 기록 (필터 체인 → 인증 → 서비스 → 리포지토리 → 직렬화)
+ * - 완료된 트레이스는 RequestTraceBuffer 에 보관, 기준 시간을 넘은 요청은 구간 트리를 경고 로그로 남김
+ * - 관리자 토큰으로 요청 헤더 X-Debug-Timing: true 를 보내면 응답에 Server-Timing 헤더 추가
+ * NOTE SqlStatementCountFilter 안쪽에서 실행되어야 구간별 SQL 수가 집계됨
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestTraceFilter extends OncePerRequestFilter {
+
+    public static final String DEBUG_TIMING_HEADER = "X-Debug-Timing";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private final RequestTraceBuffer requestTraceBuffer;
+    private final TokenProvider tokenProvider;
+    private final boolean enabled;
+    private final long slowThresholdMillis;
+
+    public RequestTraceFilter(
+            RequestTraceBuffer requestTraceBuffer,
+            TokenProvider tokenProvider,
+            @Value("${withme.trace.enabled:true}") boolean enabled,
+            @Value("${withme.trace.slow-threshold-ms:1000}") long slowThresholdMillis) {
+        this.requestTraceBuffer = requestTraceBuffer;
+        this.tokenProvider = tokenProvider;
+        this.enabled = enabled;
+        this.slowThresholdMillis = slowThresholdMillis;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        // NOTE 헤더는 응답이 커밋되기 전에 써야 하므로 디버그 요청만 응답 본문을 버퍼링
+        boolean debugTiming = "true".equalsIgnoreCase(request.getHeader(DEBUG_TIMING_HEADER)) && isAdmin(request);
+        HttpServletResponse target = debugTiming ? new ContentCachingResponseWrapper(response) : response;
+
+        LocalDateTime requestedAt = LocalDateTime.now();
+        TraceSpan root = RequestTracer.start(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, target);
+        } finally {
+            root.close();
+            RequestTracer.clear();
+
+            RequestTrace trace = new RequestTrace(requestedAt, request.getMethod(), request.getRequestURI(), target.getStatus(), root);
+            requestTraceBuffer.add(trace);
+            if (trace.getDurationMillis() > slowThresholdMillis) {
+                log.warn("느린 요청 : {} {} - {}ms (기준 {}ms)\n{}", trace.getMethod(), trace.getUri(), Math.round(trace.getDurationMillis()), slowThresholdMillis, trace.render());
+            }
+
+            if (debugTiming) {
+                ContentCachingResponseWrapper wrapper = (ContentCachingResponseWrapper) target;
+                wrapper.setHeader(SERVER_TIMING_HEADER, trace.toServerTiming());
+                wrapper.copyBodyToResponse();
+            }
+        }
+    }
+
+    // NOTE 서비스/리포지토리 구간 정보가 노출되므로 관리자만 허용 (디버그 헤더가 있는 요청만 토큰 확인)
+    private boolean isAdmin(HttpServletRequest request) {
+        String jwt = request.getHeader(JwtAuthorizationFilter.AUTHORIZATION_HEADER);
+        if (jwt == null || !jwt.startsWith("Bearer ")) return false;
+
+        Claims claims = tokenProvider.parseClaims(jwt);
+        if (claims == null) return false;
+
+        try {
+            return tokenProvider.getAuthentication(jwt, claims).getAuthorities().stream()
+                    .anyMatch(authority -> ROLE_ADMIN.equals(authority.getAuthority()));
+        } catch (AccessDeniedException e) {
+            return false;
+        }
+    }
+}
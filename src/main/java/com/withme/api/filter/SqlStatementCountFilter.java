@@ -0,0 +1,69 @@
+package com.withme.api.filter;
+
+import com.withme.api.config.SqlStatementCounter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청당 실행된 SQL 수를 엔드포인트(method, uri 패턴)별 분포로 기록하고 기준 건수를 넘으면 경고 로그
+ * NOTE 시큐리티 필터보다 먼저 실행되어 인증 정보 조회 쿼리도 포함
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "withme.sql.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatementCountFilter(
+            MeterRegistry meterRegistry,
+            @Value("${withme.sql.statement-budget:10}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(request, SqlStatementCounter.stop());
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        // NOTE 실제 경로 대신 매핑 패턴을 태그로 사용 (/team/{teamId} 등, 매핑되지 않은 요청은 UNKNOWN)
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+
+        DistributionSummary.builder(METRIC_NAME)
+                .description("요청당 SQL 실행 수")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > statementBudget) {
+            log.warn("SQL 실행 수 기준 초과 : {} {} ({}) - {}건 (기준 {}건)", request.getMethod(), uri, request.getRequestURI(), count, statementBudget);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.withme.api.config.auth.CustomOauth2User;
 import com.withme.api.config.auth.PrincipalDetails;
+import com.withme.api.config.auth.PrincipalDetailsCache;
 import com.withme.api.controller.dto.UserResponseDto;
 import com.withme.api.domain.user.User;
 import com.withme.api.domain.user.UserRepository;
@@ -19,6 +20,7 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import javax.servlet.http.HttpServletResponse;
@@ -43,19 +45,24 @@ public class TokenProvider implements InitializingBean {
     private final long tokenValidityInMilliseconds;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final PrincipalDetailsCache principalDetailsCache;
 
     private Key key;
+    // NOTE 서명 검증용 파서 (thread-safe, 요청마다 생성하지 않음)
+    private JwtParser jwtParser;
 
 
     public TokenProvider (
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
             UserRepository userRepository,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            PrincipalDetailsCache principalDetailsCache) {
         this.secret = secret;
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
         this.userRepository = userRepository;
         this.objectMapper = objectMapper;
+        this.principalDetailsCache = principalDetailsCache;
     }
 
     /**
@@ -66,6 +73,7 @@ public class TokenProvider implements InitializingBean {
     public void afterPropertiesSet() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
@@ -122,7 +130,7 @@ public class TokenProvider implements InitializingBean {
      * @param authentication
      * @return jwt 토큰
      */
-    private String createToken(Authentication authentication, Long id) {
+    public String createToken(Authentication authentication, Long id) {
         return Jwts.builder()
                 .setSubject(authentication.getName())   //소셜로그인일 경우 sub값, 일반 로그인일경우 닉네임
                 .setIssuer("WithMe")
@@ -155,26 +163,54 @@ public class TokenProvider implements InitializingBean {
 
     /**
      * 토큰을 파라미터로 받아 Authentication 정보를 리턴하는 메서드
+     * 인증 정보는 PrincipalDetailsCache 에 캐시되어 있으면 회원 조회 없이 사용
      * @param token
      * @return Authentication 객체
      */
     public Authentication getAuthentication(String token) throws AccessDeniedException{
-        Long userIdFromToken = this.getUserIdFromToken(token);
-        User user = userRepository.findById(userIdFromToken)
-                .orElseThrow(() -> new AccessDeniedException("User In Token Not Found. id : " + userIdFromToken));
+        return this.getAuthentication(token, this.getClaimsFromToken(token));
+    }
 
-        PrincipalDetails principalDetails = new PrincipalDetails(user);
+    /**
+     * 검증된 토큰의 body로 Authentication 정보를 리턴하는 메서드
+     * 토큰과 body는 Authentication 에 보관해서 같은 요청의 getUserIdFromToken 에서 재사용
+     * @param token
+     * @param claims parseClaims 로 검증된 토큰의 body
+     * @return Authentication 객체
+     */
+    public Authentication getAuthentication(String token, Claims claims) throws AccessDeniedException{
+        Long userIdFromToken = this.getUserIdFromClaims(claims);
+        PrincipalDetails principalDetails = principalDetailsCache.get(userIdFromToken, userId ->
+                userRepository.findById(userId)
+                        .map(PrincipalDetails::new)
+                        .orElse(null));
+        if (principalDetails == null) {
+            throw new AccessDeniedException("User In Token Not Found. id : " + userIdFromToken);
+        }
 
-        return new UsernamePasswordAuthenticationToken(principalDetails, null, principalDetails.getAuthorities());
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principalDetails, token, principalDetails.getAuthorities());
+        authentication.setDetails(claims);
+        return authentication;
     }
 
     /**
      * 토큰을 파라미터로 받아 토큰 내부 body의 userId를 리턴하는 메서드
+     * NOTE JwtAuthorizationFilter 에서 이미 검증한 토큰이면 SecurityContext 의 body를 사용 (서명 재검증 X)
      * @param token
      * @return userId
      */
     public Long getUserIdFromToken(String token) {
-        return Long.parseLong(getClaimsFromToken(token).get("id").toString());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getDetails() instanceof Claims
+                && token != null && token.equals(authentication.getCredentials())) {
+            return this.getUserIdFromClaims((Claims) authentication.getDetails());
+        }
+        return this.getUserIdFromClaims(getClaimsFromToken(token));
+    }
+
+    private Long getUserIdFromClaims(Claims claims) {
+        return Long.parseLong(claims.get(USER_ID).toString());
     }
 
     /**
@@ -183,11 +219,7 @@ public class TokenProvider implements InitializingBean {
      * @return 토큰의 body
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token.substring(7))
-                .getBody();
+        return jwtParser.parseClaimsJws(token.substring(7)).getBody();
     }
 
     /**
@@ -196,12 +228,20 @@ public class TokenProvider implements InitializingBean {
      * @return
      */
     public boolean validateToken(String token) {
+        return this.parseClaims(token) != null;
+    }
+
+    /**
+     * 토큰을 검증하고 body를 리턴하는 메서드 (유효하지 않으면 null)
+     * @param token
+     * @return 토큰의 body
+     */
+    public Claims parseClaims(String token) {
         try {
-            if(token.equals("No Token")){
-                return false;
+            if(token == null || token.equals("No Token")){
+                return null;
             } else {
-                Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token.substring(7));
-                return true;
+                return this.getClaimsFromToken(token);
             }
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
@@ -213,6 +253,6 @@ public class TokenProvider implements InitializingBean {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
 
-        return false;
+        return null;
     }
 }
\ No newline at end of file
@@ -0,0 +1,386 @@
+package com.withme.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.withme.api.domain.team.TeamCountFlushedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntSupplier;
+
+/**
+ * 팀/댓글 좋아요 쓰기 지연 버퍼
+ * NOTE 좋아요 요청마다 team_like/comment_like 와 카운트 컬럼을 바로 수정하지 않고 (사용자, 대상) 별 최종 상태만 모아두었다가
+ *      주기적으로 JDBC 배치로 반영 (같은 대상에 대한 반복 토글은 마지막 상태 하나로 합쳐짐)
+ *      반영 전 좋아요 여부/개수는 getTeamLike, getCommentLike, getPending*LikeCount 로 DB 값에 덧씌워 계산
+ *      버퍼가 가득 차면 offer 가 null 을 반환하고 호출한 쪽에서 바로 DB에 반영
+ *      DB의 좋아요 여부/개수는 짧은 시간 캐시해서 같은 대상에 대한 요청마다 다시 조회하지 않음 (flush 한 값으로 갱신)
+ */
+@Slf4j
+@Component
+public class LikeCommandBuffer {
+
+    private static final String INSERT_TEAM_LIKE_SQL = "INSERT IGNORE INTO team_like (team_idx, user_idx) SELECT t.team_idx, ? FROM team t WHERE t.team_idx = ?";
+    private static final String DELETE_TEAM_LIKE_SQL = "DELETE FROM team_like WHERE team_idx = ? AND user_idx = ?";
+    private static final String INSERT_COMMENT_LIKE_SQL = "INSERT IGNORE INTO comment_like (comment_id, user_id, team_id) SELECT tc.comment_id, ?, tc.team_id FROM team_comment tc WHERE tc.comment_id = ? AND tc.team_id = ?";
+    private static final String DELETE_COMMENT_LIKE_SQL = "DELETE FROM comment_like WHERE team_id = ? AND user_id = ? AND comment_id = ?";
+    // NOTE 증감 대신 실제 행 수로 다시 계산 (이미 반영된 좋아요가 섞여 있어도 카운트가 어긋나지 않음)
+    private static final String RECOUNT_TEAM_LIKE_SQL = "UPDATE team SET team_like_count = (SELECT COUNT(*) FROM team_like tl WHERE tl.team_idx = ?) WHERE team_idx = ?";
+    private static final String RECOUNT_COMMENT_LIKE_SQL = "UPDATE team_comment SET comment_like_count = (SELECT COUNT(*) FROM comment_like cl WHERE cl.comment_id = ?) WHERE comment_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int capacity;
+
+    // NOTE (사용자, 대상) 별 반영 대기 상태
+    private final Map<LikeKey, PendingLike> pending = new ConcurrentHashMap<>();
+    // NOTE 대상별 반영 대기 좋아요 개수 증감 (merge 로만 변경하고 0 이 되면 제거)
+    private final Map<LikeTarget, Long> pendingCounts = new ConcurrentHashMap<>();
+    // NOTE (사용자, 대상) 별 DB 좋아요 여부, 대상별 DB 좋아요 개수 (개수가 캐시된 대상은 존재 확인도 생략)
+    private final Cache<LikeKey, Boolean> persistedStates;
+    private final Cache<LikeTarget, Integer> persistedCounts;
+    // NOTE flush 횟수 (개수를 조회하는 동안 flush 된 경우 조회한 값을 저장하지 않기 위해 사용)
+    private final AtomicLong flushes = new AtomicLong();
+
+    public LikeCommandBuffer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${withme.like.async.enabled:false}") boolean enabled,
+            @Value("${withme.like.async.capacity:10000}") int capacity,
+            @Value("${withme.like.async.persisted-cache-seconds:30}") long persistedCacheSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.persistedStates = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .expireAfterWrite(Duration.ofSeconds(persistedCacheSeconds))
+                .build();
+        this.persistedCounts = Caffeine.newBuilder()
+                .maximumSize(capacity)
+                .expireAfterWrite(Duration.ofSeconds(persistedCacheSeconds))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 팀 좋아요 상태 변경 요청 (liked 가 null 이면 토글)
+     * @param persistedState 아직 버퍼에 없는 경우 DB의 좋아요 여부 조회
+     * @return 변경 후 좋아요 여부, 버퍼를 사용하지 않거나 가득 찬 경우 null
+     * */
+    public Boolean offerTeamLike(Long teamId, Long userId, Boolean liked, BooleanSupplier persistedState) {
+        return offer(new LikeKey(LikeTarget.team(teamId), userId), liked, persistedState);
+    }
+
+    /**
+     * 댓글 좋아요 상태 변경 요청 (liked 가 null 이면 토글)
+     * @param persistedState 아직 버퍼에 없는 경우 DB의 좋아요 여부 조회
+     * @return 변경 후 좋아요 여부, 버퍼를 사용하지 않거나 가득 찬 경우 null
+     * */
+    public Boolean offerCommentLike(Long teamId, Long commentId, Long userId, Boolean liked, BooleanSupplier persistedState) {
+        return offer(new LikeKey(LikeTarget.comment(teamId, commentId), userId), liked, persistedState);
+    }
+
+    /**
+     * 반영 대기 중인 팀 좋아요 여부 (대기 중이 아니면 null)
+     * */
+    public Boolean getTeamLike(Long teamId, Long userId) {
+        PendingLike pendingLike = pending.get(new LikeKey(LikeTarget.team(teamId), userId));
+        return pendingLike == null ? null : pendingLike.liked;
+    }
+
+    /**
+     * 반영 대기 중인 댓글 좋아요 여부 (대기 중이 아니면 null)
+     * */
+    public Boolean getCommentLike(Long teamId, Long commentId, Long userId) {
+        PendingLike pendingLike = pending.get(new LikeKey(LikeTarget.comment(teamId, commentId), userId));
+        return pendingLike == null ? null : pendingLike.liked;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 팀 좋아요 개수 증감
+     * */
+    public long getPendingTeamLikeCount(Long teamId) {
+        return getPendingCount(LikeTarget.team(teamId));
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 댓글 좋아요 개수 증감
+     * */
+    public long getPendingCommentLikeCount(Long teamId, Long commentId) {
+        return getPendingCount(LikeTarget.comment(teamId, commentId));
+    }
+
+    /**
+     * DB에 반영된 팀 좋아요 개수 (캐시에 없으면 persistedCount 로 조회, 없는 팀이면 persistedCount 의 예외 그대로)
+     * */
+    public int getPersistedTeamLikeCount(Long teamId, IntSupplier persistedCount) {
+        return getPersistedCount(LikeTarget.team(teamId), persistedCount);
+    }
+
+    /**
+     * DB에 반영된 댓글 좋아요 개수 (캐시에 없으면 persistedCount 로 조회, 없는 댓글이면 persistedCount 의 예외 그대로)
+     * */
+    public int getPersistedCommentLikeCount(Long teamId, Long commentId, IntSupplier persistedCount) {
+        return getPersistedCount(LikeTarget.comment(teamId, commentId), persistedCount);
+    }
+
+    /**
+     * 반영 대기 건수
+     * */
+    public int size() {
+        return pending.size();
+    }
+
+    /**
+     * 대기 중인 좋아요 상태를 배치로 반영
+     * */
+    @Scheduled(fixedDelayString = "${withme.like.async.flush-interval-ms:1000}")
+    public void flush() {
+        Set<Long> teamIds = flushPending();
+        if (!teamIds.isEmpty()) eventPublisher.publishEvent(new TeamCountFlushedEvent(teamIds));
+    }
+
+    // NOTE 종료 중에는 상세 캐시도 함께 정리되므로 반영 완료 이벤트 생략
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    /**
+     * 반영한 좋아요의 팀 id 리턴 (반영할 것이 없거나 실패하면 빈 값)
+     * */
+    private synchronized Set<Long> flushPending() {
+        if (pending.isEmpty()) return Collections.emptySet();
+
+        Map<LikeKey, PendingLike> snapshot = new HashMap<>(pending);
+        List<Object[]> teamLikes = new ArrayList<>();
+        List<Object[]> teamUnlikes = new ArrayList<>();
+        List<Object[]> commentLikes = new ArrayList<>();
+        List<Object[]> commentUnlikes = new ArrayList<>();
+        Set<Long> teamIds = new HashSet<>();
+        Set<Long> commentIds = new HashSet<>();
+        Set<LikeTarget> flushedTargets = new HashSet<>();
+        // NOTE 팀 좋아요, 댓글 좋아요가 반영된 팀
+        Set<Long> flushedTeamIds = new HashSet<>();
+        snapshot.forEach((key, pendingLike) -> {
+            // NOTE 토글이 합쳐져 원래 상태로 돌아온 경우 반영할 것 없음
+            if (!pendingLike.isChanged()) return;
+            LikeTarget target = key.target;
+            flushedTeamIds.add(target.teamId);
+            flushedTargets.add(target);
+            if (target.commentId == null) {
+                if (pendingLike.liked) {
+                    teamLikes.add(new Object[]{key.userId, target.teamId});
+                } else {
+                    teamUnlikes.add(new Object[]{target.teamId, key.userId});
+                }
+                teamIds.add(target.teamId);
+            } else {
+                if (pendingLike.liked) {
+                    commentLikes.add(new Object[]{key.userId, target.commentId, target.teamId});
+                } else {
+                    commentUnlikes.add(new Object[]{target.teamId, key.userId, target.commentId});
+                }
+                commentIds.add(target.commentId);
+            }
+        });
+
+        if (!teamIds.isEmpty() || !commentIds.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    batchUpdate(INSERT_TEAM_LIKE_SQL, teamLikes);
+                    batchUpdate(DELETE_TEAM_LIKE_SQL, teamUnlikes);
+                    batchUpdate(INSERT_COMMENT_LIKE_SQL, commentLikes);
+                    batchUpdate(DELETE_COMMENT_LIKE_SQL, commentUnlikes);
+                    batchUpdate(RECOUNT_TEAM_LIKE_SQL, toRecountArgs(teamIds));
+                    batchUpdate(RECOUNT_COMMENT_LIKE_SQL, toRecountArgs(commentIds));
+                });
+            } catch (RuntimeException e) {
+                // NOTE 버퍼에서 제거하지 않았으므로 다음 flush 에서 다시 시도
+                log.error("[ERROR] : 좋아요 반영 실패 - {} 건", snapshot.size(), e);
+                return Collections.emptySet();
+            }
+        }
+
+        // NOTE 카운트가 다시 계산된 대상의 개수 캐시 제거
+        flushes.incrementAndGet();
+        flushedTargets.forEach(persistedCounts::invalidate);
+
+        // NOTE 반영한 상태만 제거, flush 도중 바뀐 상태는 반영된 상태를 기준으로 남겨서 다음 flush 로 넘김
+        //      버퍼에서 제거하기 전에 반영된 상태를 캐시 (제거 직후 요청이 DB를 다시 조회하지 않도록)
+        snapshot.forEach((key, flushed) -> {
+            persistedStates.put(key, flushed.liked);
+            pending.computeIfPresent(key, (k, current) -> {
+                if (flushed.isChanged()) addPendingCount(k.target, flushed.liked ? -1 : 1);
+                return current == flushed ? null : new PendingLike(flushed.liked, current.liked);
+            });
+        });
+        log.debug("좋아요 반영 : 팀 {} 건, 댓글 {} 건", teamLikes.size() + teamUnlikes.size(), commentLikes.size() + commentUnlikes.size());
+        return flushedTeamIds;
+    }
+
+    private Boolean offer(LikeKey key, Boolean liked, BooleanSupplier persistedState) {
+        if (!enabled) return null;
+
+        while (true) {
+            PendingLike current = pending.get(key);
+            // NOTE 새 대상은 용량 안에서만 받음 (이미 대기 중인 대상은 상태만 바뀌므로 항상 받음)
+            //      거절하면 호출한 쪽에서 바로 DB를 변경하므로 캐시된 상태/개수도 제거
+            if (current == null && pending.size() >= capacity) {
+                persistedStates.invalidate(key);
+                persistedCounts.invalidate(key.target);
+                return null;
+            }
+
+            // NOTE DB 조회는 compute 밖에서 (compute 안에서는 같은 버킷의 다른 요청이 대기함)
+            Boolean persisted = current == null ? getPersistedState(key, persistedState) : null;
+            PendingLike updated = pending.compute(key, (k, old) -> {
+                // NOTE 조회 이후 flush 로 제거된 경우 DB 상태를 다시 확인
+                if (old == null && persisted == null) return null;
+                boolean before = old == null ? persisted : old.liked;
+                boolean after = liked == null ? !before : liked;
+                if (before != after) addPendingCount(k.target, after ? 1 : -1);
+                return new PendingLike(old == null ? persisted : old.persisted, after);
+            });
+            if (updated != null) return updated.liked;
+        }
+    }
+
+    // NOTE flush 가 같은 키에 반영된 상태를 먼저 저장했으면 그 값을 사용
+    private boolean getPersistedState(LikeKey key, BooleanSupplier persistedState) {
+        Boolean cached = persistedStates.getIfPresent(key);
+        if (cached != null) return cached;
+
+        boolean loaded = persistedState.getAsBoolean();
+        cached = persistedStates.asMap().putIfAbsent(key, loaded);
+        return cached == null ? loaded : cached;
+    }
+
+    private int getPersistedCount(LikeTarget target, IntSupplier persistedCount) {
+        Integer cached = persistedCounts.getIfPresent(target);
+        if (cached != null) return cached;
+
+        long flushed = flushes.get();
+        int loaded = persistedCount.getAsInt();
+        // NOTE 저장 후에 flush 여부를 확인 (조회 도중 카운트가 다시 계산됐으면 조회한 값은 오래된 값일 수 있음)
+        persistedCounts.put(target, loaded);
+        if (flushed != flushes.get()) {
+            persistedCounts.asMap().remove(target, loaded);
+        }
+        return loaded;
+    }
+
+    private long getPendingCount(LikeTarget target) {
+        return pendingCounts.getOrDefault(target, 0L);
+    }
+
+    private void addPendingCount(LikeTarget target, long delta) {
+        pendingCounts.merge(target, delta, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    private void batchUpdate(String sql, List<Object[]> args) {
+        if (!args.isEmpty()) jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    private static List<Object[]> toRecountArgs(Set<Long> ids) {
+        List<Object[]> args = new ArrayList<>(ids.size());
+        ids.forEach(id -> args.add(new Object[]{id, id}));
+        return args;
+    }
+
+    /**
+     * 좋아요 대상 (팀 또는 팀의 댓글)
+     * */
+    private static final class LikeTarget {
+        private final Long teamId;
+        private final Long commentId;
+
+        private LikeTarget(Long teamId, Long commentId) {
+            this.teamId = teamId;
+            this.commentId = commentId;
+        }
+
+        private static LikeTarget team(Long teamId) {
+            return new LikeTarget(teamId, null);
+        }
+
+        private static LikeTarget comment(Long teamId, Long commentId) {
+            return new LikeTarget(teamId, commentId);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LikeTarget)) return false;
+            LikeTarget that = (LikeTarget) o;
+            return Objects.equals(teamId, that.teamId) && Objects.equals(commentId, that.commentId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(teamId, commentId);
+        }
+    }
+
+    /**
+     * 사용자별 좋아요 대상
+     * */
+    private static final class LikeKey {
+        private final LikeTarget target;
+        private final Long userId;
+
+        private LikeKey(LikeTarget target, Long userId) {
+            this.target = target;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof LikeKey)) return false;
+            LikeKey that = (LikeKey) o;
+            return target.equals(that.target) && Objects.equals(userId, that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * target.hashCode() + Objects.hashCode(userId);
+        }
+    }
+
+    /**
+     * 반영 대기 상태 (불변, persisted 는 버퍼에 들어올 때의 DB 상태)
+     * */
+    private static final class PendingLike {
+        private final boolean persisted;
+        private final boolean liked;
+
+        private PendingLike(boolean persisted, boolean liked) {
+            this.persisted = persisted;
+            this.liked = liked;
+        }
+
+        private boolean isChanged() {
+            return persisted != liked;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.skill.Skill;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.skill.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 스킬 기준 데이터
+ * NOTE 시작 시 SkillName 에 있는 스킬을 skill 테이블에 등록하고, 팀 등록/검색에서는 조회 없이 여기서 Skill 참조를 꺼내 사용
+ *      (현재 영속성 컨텍스트의 참조를 돌려주므로 TeamSkill 에 그대로 연결 가능)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class SkillCatalog {
+
+    private final SkillRepository skillRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+
+    @PostConstruct
+    public void init() {
+        // NOTE skill 리전에 DB 에 없는 항목이 남아 있으면 saveAll(merge) 이 캐시를 보고 insert 를 건너뛰므로 DB 기준으로 다시 적재
+        entityManagerFactory.getCache().evict(Skill.class);
+        Set<SkillName> registered = skillRepository.findAll().stream()
+                .map(Skill::getSkillName)
+                .collect(Collectors.toSet());
+        List<Skill> missing = Arrays.stream(SkillName.values())
+                .filter(skillName -> !registered.contains(skillName))
+                .map(Skill::new)
+                .collect(Collectors.toList());
+        if (!missing.isEmpty()) skillRepository.saveAll(missing);
+
+        log.debug("스킬 기준 데이터 : 전체 {}, 신규 등록 {}", SkillName.values().length, missing.size());
+    }
+
+    /**
+     * 현재 영속성 컨텍스트의 Skill 참조 (이미 있으면 그 엔티티, 없으면 조회 없이 프록시)
+     * NOTE 시작 시 SkillName 전체를 등록하므로 항상 존재하는 행을 가리킴
+     * */
+    public Skill get(SkillName skillName) {
+        if (skillName == null) throw new IllegalArgumentException("존재하지 않는 스킬 : null");
+        return entityManager.getReference(Skill.class, skillName);
+    }
+
+    public List<Skill> getAll(Collection<SkillName> skillNames) {
+        return skillNames.stream()
+                .map(this::get)
+                .collect(Collectors.toList());
+    }
+}
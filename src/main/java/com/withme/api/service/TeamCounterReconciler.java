@@ -0,0 +1,36 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.teamComment.TeamCommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 팀 댓글/좋아요, 댓글 좋아요 카운트 컬럼 보정
+ * NOTE 카운트는 요청마다 원자적으로 증감하지만 예외/직접 DB 수정 등으로 어긋난 값을 실제 개수로 맞춤
+ *      (카운트 컬럼 추가 이전 데이터도 기동 시 함께 채워짐)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TeamCounterReconciler {
+
+    private final TeamRepository teamRepository;
+
+    private final TeamCommentRepository teamCommentRepository;
+
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${withme.counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        int teamCount = teamRepository.reconcileCounts();
+        int commentCount = teamCommentRepository.reconcileCommentLikeCounts();
+
+        log.info("카운트 보정 완료 - 팀 : {}, 댓글 : {}", teamCount, commentCount);
+    }
+}
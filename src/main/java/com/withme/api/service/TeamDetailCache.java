@@ -0,0 +1,149 @@
+package com.withme.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.withme.api.controller.dto.TeamDetailResponseDto;
+import com.withme.api.domain.team.TeamChangedEvent;
+import com.withme.api.domain.team.TeamCountFlushedEvent;
+import com.withme.api.domain.team.TeamDeletedEvent;
+import com.withme.api.domain.team.TeamDetailChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 팀 상세 응답 스냅샷 캐시
+ * NOTE 비로그인 기준 상세 응답(팀, 작성자, 댓글 첫 페이지)을 팀 id 별로 보관하고, 사용자별 값(좋아요 여부)과 조회수는 요청 시점에 덧씌움
+ *      팀 버전은 상세 응답 내용이 바뀔 때마다 올라가고 ETag 로 사용 (조회수 변경은 버전에 포함하지 않음)
+ */
+@Slf4j
+@Component
+public class TeamDetailCache {
+
+    private static final String CACHE_NAME = "teamDetail";
+
+    private final Cache<Long, TeamDetailResponseDto> snapshots;
+
+    // NOTE 한 번이라도 변경된 팀의 버전 (팀 수만큼만 생기므로 제거하지 않음 - 제거하면 이전 ETag 와 같은 버전이 다시 나올 수 있음)
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    // NOTE 재시작 이전에 발급한 ETag 와 겹치지 않도록 시작 시각부터 증가
+    private final long initialVersion = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong(initialVersion);
+    // NOTE 카운트 반영으로 스냅샷을 제거한 횟수 (스냅샷을 만드는 동안 제거된 경우 저장하지 않기 위해 사용)
+    private final AtomicLong evictions = new AtomicLong();
+
+    public TeamDetailCache(
+            @Value("${withme.team-detail-cache.maximum-size:1000}") long maximumSize,
+            @Value("${withme.team-detail-cache.expire-after-write-seconds:600}") long expireAfterWriteSeconds,
+            MeterRegistry meterRegistry) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshots, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 상세 스냅샷 조회 (없으면 loader 로 만든 후 저장)
+     * NOTE 반환한 스냅샷은 다른 요청과 공유되므로 수정하지 않고 복사해서 사용
+     * */
+    public TeamDetailResponseDto get(Long teamId, Supplier<TeamDetailResponseDto> loader) {
+        TeamDetailResponseDto snapshot = snapshots.getIfPresent(teamId);
+        if (snapshot != null) return snapshot;
+
+        long version = getVersion(teamId);
+        long evicted = evictions.get();
+        snapshot = loader.get();
+        if (snapshot == null) return null;
+
+        // NOTE 저장 후에 변경 여부를 확인 (변경은 버전을 먼저 올리고 제거하므로, 저장 전후 어느 쪽에 끼어들어도 오래된 스냅샷이 남지 않음)
+        snapshots.put(teamId, snapshot);
+        if (version != getVersion(teamId) || evicted != evictions.get()) {
+            snapshots.asMap().remove(teamId, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 캐시된 상세 스냅샷 조회 (없으면 null, 새로 만들지 않음)
+     * */
+    public TeamDetailResponseDto getIfPresent(Long teamId) {
+        return snapshots.getIfPresent(teamId);
+    }
+
+    public long getVersion(Long teamId) {
+        return versions.getOrDefault(teamId, initialVersion);
+    }
+
+    /**
+     * 팀 상세 ETag ("팀id-버전-사용자id-추천팀해시", 비로그인은 사용자 id 0)
+     * NOTE 추천 팀은 스냅샷에 포함되지 않지만 응답 본문에 포함되므로 추천 팀 id 목록도 ETag 에 반영
+     * */
+    public String getETag(Long teamId, Long userId, List<Long> recommendTeamIds) {
+        return "\"" + teamId + "-" + getVersion(teamId) + "-" + (userId == null ? 0L : userId)
+                + "-" + Integer.toHexString(recommendTeamIds.hashCode()) + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더에 ETag 가 포함되어 있는지 확인 (여러 값, 약한 비교 W/ 허용)
+     * NOTE * 는 허용하지 않음 (팀 존재 여부와 관계없이 304 가 나갈 수 있음)
+     * */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) return false;
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) value = value.substring(2);
+            if (value.equals(eTag)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 상세 응답 내용 변경 (버전 증가 후 스냅샷 제거)
+     * */
+    public void invalidate(Long teamId) {
+        if (teamId == null) return;
+        versions.put(teamId, sequence.incrementAndGet());
+        snapshots.invalidate(teamId);
+        log.debug("팀 상세 캐시 무효화 : {}", teamId);
+    }
+
+    // NOTE 커밋 이전에 무효화하면 다른 요청이 변경 전 값으로 스냅샷을 다시 만들 수 있으므로 커밋 이후 처리
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        invalidate(event.getTeamId());
+    }
+
+    // NOTE 삭제된 팀의 스냅샷이 남으면 조건부 조회에 304 가 나갈 수 있음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamDeleted(TeamDeletedEvent event) {
+        invalidate(event.getTeamId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamDetailChanged(TeamDetailChangedEvent event) {
+        invalidate(event.getTeamId());
+    }
+
+    /**
+     * 버퍼 대기값이 DB 로 옮겨진 팀은 스냅샷만 제거 (DB 값 + 대기값의 합은 같으므로 버전은 유지)
+     * */
+    @EventListener
+    public void onTeamCountFlushed(TeamCountFlushedEvent event) {
+        evictions.incrementAndGet();
+        snapshots.invalidateAll(event.getTeamIds());
+    }
+}
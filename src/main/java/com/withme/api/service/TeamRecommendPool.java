@@ -0,0 +1,159 @@
+package com.withme.api.service;
+
+import com.withme.api.controller.dto.TeamDetailRecommendReaponseDto;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 팀 상세 추천 팀 풀
+ * NOTE 조회수/좋아요/최신순 상위 팀을 점수로 정렬한 스냅샷을 주기적으로 만들어 교체
+ *      상세 조회 시에는 스냅샷에서 샘플링만 하므로 DB를 조회하지 않음
+ */
+@Slf4j
+@Component
+public class TeamRecommendPool {
+
+    private final TeamRepository teamRepository;
+
+    // NOTE 후보 정렬 기준별 조회 수, 스냅샷 크기
+    private final int candidateSize;
+    private final int poolSize;
+
+    // NOTE 점수 = 조회수 가중치 * log(1 + 조회수) + 좋아요 가중치 * log(1 + 좋아요) + 최신 가중치 * 0.5^(경과일 / 반감기)
+    private final double viewWeight;
+    private final double likeWeight;
+    private final double recencyWeight;
+    private final double recencyHalfLifeDays;
+
+    private final AtomicReference<Pool> snapshot = new AtomicReference<>(new Pool(0L, Collections.emptyList()));
+
+    public TeamRecommendPool(
+            TeamRepository teamRepository,
+            @Value("${withme.recommend.candidate-size:200}") int candidateSize,
+            @Value("${withme.recommend.pool-size:50}") int poolSize,
+            @Value("${withme.recommend.view-weight:1.0}") double viewWeight,
+            @Value("${withme.recommend.like-weight:2.0}") double likeWeight,
+            @Value("${withme.recommend.recency-weight:3.0}") double recencyWeight,
+            @Value("${withme.recommend.recency-half-life-days:14}") double recencyHalfLifeDays) {
+        this.teamRepository = teamRepository;
+        this.candidateSize = candidateSize;
+        this.poolSize = poolSize;
+        this.viewWeight = viewWeight;
+        this.likeWeight = likeWeight;
+        this.recencyWeight = recencyWeight;
+        this.recencyHalfLifeDays = recencyHalfLifeDays;
+    }
+
+    /**
+     * 추천 팀 스냅샷 갱신
+     * */
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${withme.recommend.refresh-interval-ms:60000}", initialDelayString = "${withme.recommend.refresh-interval-ms:60000}")
+    public void refresh() {
+        // NOTE 정렬 기준별 상위 팀만 후보로 사용 (전체 팀 점수 계산 X)
+        Map<Long, Team> candidates = new LinkedHashMap<>();
+        for (String property : List.of("viewCount", "teamLikeCount", "createdTime")) {
+            teamRepository.findByStatus(Status.DISPLAYED, PageRequest.of(0, candidateSize, Sort.by(Sort.Direction.DESC, property)))
+                    .forEach(team -> candidates.putIfAbsent(team.getId(), team));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<RecommendTeam> teams = candidates.values().stream()
+                .sorted(Comparator.comparingDouble((Team team) -> score(team, now)).reversed())
+                .limit(poolSize)
+                .map(team -> new RecommendTeam(team.getId(), team.getTitle()))
+                .collect(Collectors.toUnmodifiableList());
+        snapshot.set(new Pool(snapshot.get().generation + 1, teams));
+
+        log.debug("추천 팀 풀 갱신 : 후보 {}, 풀 {}", candidates.size(), teams.size());
+    }
+
+    /**
+     * 추천 팀 샘플링 (현재 팀 제외, 최대 size 건)
+     * NOTE 같은 스냅샷에서는 팀별로 같은 결과 (상세 ETag 에 추천 팀이 포함되므로 요청마다 달라지면 304 응답을 할 수 없음)
+     *      스냅샷이 갱신되면 시드가 바뀌어 추천 팀도 바뀜
+     * */
+    public List<TeamDetailRecommendReaponseDto> sample(Long excludeTeamId, int size) {
+        Pool pool = snapshot.get();
+        List<RecommendTeam> teams = pool.teams;
+        List<TeamDetailRecommendReaponseDto> result = new ArrayList<>(size);
+        if (teams.isEmpty()) return result;
+
+        // NOTE 임의 위치에서 시작해 서로소 간격으로 순회하면 중복 없이 size 건만 확인
+        int poolCount = teams.size();
+        SplittableRandom random = new SplittableRandom(pool.generation * 31 + (excludeTeamId == null ? 0L : excludeTeamId));
+        int index = random.nextInt(poolCount);
+        int step = randomCoprimeStep(poolCount, random);
+        for (int i = 0; i < poolCount && result.size() < size; i++) {
+            RecommendTeam team = teams.get(index);
+            if (!team.id.equals(excludeTeamId)) {
+                result.add(new TeamDetailRecommendReaponseDto(team.id, team.title));
+            }
+            index = (index + step) % poolCount;
+        }
+        return result;
+    }
+
+    private double score(Team team, LocalDateTime now) {
+        double ageDays = team.getCreatedTime() == null ? 0 : Math.max(0, Duration.between(team.getCreatedTime(), now).toHours() / 24.0);
+        return viewWeight * Math.log1p(team.getViewCount())
+                + likeWeight * Math.log1p(team.getTeamLikeCount())
+                + recencyWeight * Math.pow(0.5, ageDays / recencyHalfLifeDays);
+    }
+
+    private static int randomCoprimeStep(int poolCount, SplittableRandom random) {
+        if (poolCount <= 2) return 1;
+        int step = 1 + random.nextInt(poolCount - 1);
+        while (gcd(step, poolCount) != 1) {
+            step = step % (poolCount - 1) + 1;
+        }
+        return step;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    /**
+     * 추천 팀 스냅샷 (갱신 회차, 점수순 추천 팀)
+     * */
+    private static final class Pool {
+        private final long generation;
+        private final List<RecommendTeam> teams;
+
+        private Pool(long generation, List<RecommendTeam> teams) {
+            this.generation = generation;
+            this.teams = teams;
+        }
+    }
+
+    /**
+     * 스냅샷에 보관하는 추천 팀 정보 (불변)
+     * */
+    private static final class RecommendTeam {
+        private final Long id;
+        private final String title;
+
+        private RecommendTeam(Long id, String title) {
+            this.id = id;
+            this.title = title;
+        }
+    }
+}
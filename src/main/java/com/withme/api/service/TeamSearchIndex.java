@@ -0,0 +1,319 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamSkillMatch;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 키워드 검색 색인 (Lucene)
+ * NOTE 게시중인 팀의 팀 이름, 제목, 소개, 내용을 한국어 형태소 분석기(Nori)로 색인하고 BM25 점수 순으로 조회
+ *      DB LIKE 검색과 달리 팀 수가 늘어도 검색어 토큰의 역색인만 읽음
+ *      변경은 NRT(near real-time) 로 바로 검색에 반영하고 디스크 커밋은 주기적으로 처리
+ *      전체 재구성 중에는 refresh, 커밋을 모두 멈추고 검색은 재구성 이전 색인을 사용 (비어 있거나 일부만 채워진 색인이 보이지 않음)
+ */
+@Slf4j
+@Component
+public class TeamSearchIndex {
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_ID_SORT = "id_sort";
+    private static final String FIELD_TEAM_NAME = "teamName";
+    private static final String FIELD_TITLE = "title";
+    private static final String FIELD_TEAM_DESC = "teamDesc";
+    private static final String FIELD_CONTENT = "content";
+    private static final String FIELD_CATEGORY = "category";
+    private static final String FIELD_SKILL = "skill";
+
+    // NOTE 필드별 가중치 (팀 이름, 제목에 나오는 검색어를 우선)
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(
+            FIELD_TEAM_NAME, 3.0f
+            , FIELD_TITLE, 2.0f
+            , FIELD_TEAM_DESC, 1.5f
+            , FIELD_CONTENT, 1.0f);
+
+    // NOTE 점수 내림차순, 같으면 최신 팀(id 내림차순) 우선 - 커서에 (점수, id) 를 담아 다음 페이지 조회
+    private static final Sort SORT = new Sort(SortField.FIELD_SCORE, new SortField(FIELD_ID_SORT, SortField.Type.LONG, true));
+
+    private static final String CURSOR_PREFIX = "RELEVANCE";
+    private static final String DELIMITER = ",";
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager;
+
+    // NOTE 재구성 여부 확인과 refresh 를 같은 잠금 안에서 처리 (재구성 시작 전에 시작한 refresh 가 끝난 후 문서를 지움)
+    private final Object refreshLock = new Object();
+    private boolean rebuilding;
+
+    /**
+     * @param indexPath 색인 디렉토리 (빈 값이면 메모리, 시작 시 DB 에서 다시 구성하므로 재시작 후에도 결과는 같음)
+     * */
+    public TeamSearchIndex(@Value("${withme.search.index-path:}") String indexPath) throws IOException {
+        this.directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Paths.get(indexPath));
+        this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(indexWriter, null);
+    }
+
+    /**
+     * 팀 등록 또는 수정 반영 (같은 id 문서를 교체)
+     * */
+    public void put(Long teamId, String teamName, String title, String teamDesc, String content
+            , TeamCategory category, long skillMask) {
+        try {
+            indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(teamId))
+                    , toDocument(teamId, teamName, title, teamDesc, content, category, skillMask));
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 색인에서 제거 (숨김 처리된 팀)
+     * */
+    public void delete(Long teamId) {
+        try {
+            indexWriter.deleteDocuments(new Term(FIELD_ID, String.valueOf(teamId)));
+            refresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 색인 전체 재구성 시작 (기존 문서 제거, endRebuild 전까지 refresh/커밋 없이 검색은 이전 색인 사용)
+     * NOTE 재구성 중 put, delete 는 색인에는 반영되고 endRebuild 에서 함께 검색에 반영
+     * */
+    public void beginRebuild() {
+        synchronized (refreshLock) {
+            rebuilding = true;
+        }
+        try {
+            indexWriter.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 색인 전체 재구성 완료 (디스크 커밋 후 검색 대상 갱신)
+     * */
+    public void endRebuild() {
+        synchronized (refreshLock) {
+            rebuilding = false;
+        }
+        commit();
+    }
+
+    /**
+     * 재구성용 문서 반영 (refresh 는 endRebuild 에서 한 번에 처리, 재구성 중 이벤트로 먼저 들어온 문서와 겹치지 않도록 교체)
+     * */
+    public void add(Long teamId, String teamName, String title, String teamDesc, String content
+            , TeamCategory category, long skillMask) {
+        try {
+            indexWriter.updateDocument(new Term(FIELD_ID, String.valueOf(teamId))
+                    , toDocument(teamId, teamName, title, teamDesc, content, category, skillMask));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 디스크에 반영하고 검색 대상 갱신 (재구성 중이면 일부만 채워진 색인이 커밋되지 않도록 생략)
+     * */
+    public void commit() {
+        try {
+            synchronized (refreshLock) {
+                if (rebuilding) return;
+                indexWriter.commit();
+                searcherManager.maybeRefreshBlocking();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 키워드 검색 (관련도 순, 카테고리/스킬 조건은 점수에 영향 없는 필터로 적용)
+     * NOTE 커서는 이전 페이지 마지막 팀의 (점수, id), 색인이 그 사이 바뀌면 점수가 달라질 수 있어 중복/누락이 생길 수 있음
+     * */
+    public Page search(String keyword, TeamCategory category, long skillMask, TeamSkillMatch skillMatch
+            , String cursor, int limit) {
+        Object[] afterFields = decodeCursor(cursor);
+        Query query = toQuery(keyword, category, skillMask, skillMatch);
+        if (query == null) return new Page(new ArrayList<>(), null);
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            // NOTE (점수, id) 가 같은 문서는 커서의 팀 자신뿐이므로 문서 번호는 항상 건너뛰도록 마지막 번호로 지정
+            FieldDoc after = afterFields == null ? null
+                    : new FieldDoc(Math.max(searcher.getIndexReader().maxDoc() - 1, 0), Float.NaN, afterFields);
+            // NOTE 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            TopFieldDocs topDocs = searcher.searchAfter(after, query, limit + 1, SORT, true);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+
+            int size = Math.min(limit, scoreDocs.length);
+            List<Long> teamIds = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                teamIds.add(Long.parseLong(searcher.doc(scoreDocs[i].doc).get(FIELD_ID)));
+            }
+            String nextCursor = scoreDocs.length > limit ? encodeCursor((FieldDoc) scoreDocs[limit - 1]) : null;
+            return new Page(teamIds, nextCursor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    public int size() {
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            return searcher.getIndexReader().numDocs();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private void refresh() throws IOException {
+        synchronized (refreshLock) {
+            if (!rebuilding) searcherManager.maybeRefreshBlocking();
+        }
+    }
+
+    private Query toQuery(String keyword, TeamCategory category, long skillMask, TeamSkillMatch skillMatch) {
+        if (keyword == null || keyword.isBlank()) return null;
+
+        // NOTE 사용자 입력을 그대로 사용해도 예외가 나지 않는 파서 (+, -, "" 등 간단한 문법만 지원)
+        Query keywordQuery = new SimpleQueryParser(analyzer, FIELD_WEIGHTS).parse(keyword);
+        // NOTE 조사 등만 입력해 분석 후 남는 토큰이 없으면 결과 없음
+        if (keywordQuery == null) return null;
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(keywordQuery, BooleanClause.Occur.MUST);
+        if (category != null) {
+            builder.add(new TermQuery(new Term(FIELD_CATEGORY, category.name())), BooleanClause.Occur.FILTER);
+        }
+        if (skillMask != 0L) {
+            BooleanQuery.Builder skills = new BooleanQuery.Builder();
+            BooleanClause.Occur occur = skillMatch == TeamSkillMatch.ALL ? BooleanClause.Occur.FILTER : BooleanClause.Occur.SHOULD;
+            for (SkillName skillName : SkillName.fromBitmask(skillMask)) {
+                skills.add(new TermQuery(new Term(FIELD_SKILL, skillName.name())), occur);
+            }
+            builder.add(skills.build(), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private static Document toDocument(Long teamId, String teamName, String title, String teamDesc, String content
+            , TeamCategory category, long skillMask) {
+        Document document = new Document();
+        document.add(new StringField(FIELD_ID, String.valueOf(teamId), Field.Store.YES));
+        document.add(new NumericDocValuesField(FIELD_ID_SORT, teamId));
+        addText(document, FIELD_TEAM_NAME, teamName);
+        addText(document, FIELD_TITLE, title);
+        addText(document, FIELD_TEAM_DESC, teamDesc);
+        addText(document, FIELD_CONTENT, content);
+        if (category != null) document.add(new StringField(FIELD_CATEGORY, category.name(), Field.Store.NO));
+        for (SkillName skillName : SkillName.fromBitmask(skillMask)) {
+            document.add(new StringField(FIELD_SKILL, skillName.name(), Field.Store.NO));
+        }
+        return document;
+    }
+
+    private static void addText(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) document.add(new TextField(field, value, Field.Store.NO));
+    }
+
+    private static String encodeCursor(FieldDoc fieldDoc) {
+        String value = CURSOR_PREFIX + DELIMITER + fieldDoc.fields[0] + DELIMITER + fieldDoc.fields[1];
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Object[] decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String[] values = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(DELIMITER);
+            if (values.length != 3 || !CURSOR_PREFIX.equals(values[0])) throw new IllegalArgumentException();
+            return new Object[]{Float.parseFloat(values[1]), Long.parseLong(values[2])};
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서 값 : " + cursor);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) return;
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("팀 검색 색인 searcher 반환 실패", e);
+        }
+    }
+
+    /**
+     * 검색 결과 팀 id (관련도 순) 와 다음 페이지 커서
+     * */
+    @Getter
+    public static class Page {
+        private final List<Long> teamIds;
+        private final String nextCursor;
+
+        public Page(List<Long> teamIds, String nextCursor) {
+            this.teamIds = teamIds;
+            this.nextCursor = nextCursor;
+        }
+    }
+}
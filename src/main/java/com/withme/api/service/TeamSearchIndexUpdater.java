@@ -0,0 +1,83 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.TeamChangedEvent;
+import com.withme.api.domain.team.TeamDeletedEvent;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.team.TeamSearchDocumentMapping;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 팀 키워드 검색 색인 구성 및 갱신
+ * NOTE 시작 시 게시중인 팀 전체로 다시 구성하고 이후에는 팀 등록/수정 커밋 시점에 해당 팀만 반영
+ *      재구성이 끝날 때까지 검색은 이전 색인을 사용 (재구성 중 변경도 색인에는 바로 쓰이고 끝날 때 함께 보임)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TeamSearchIndexUpdater {
+
+    // NOTE 재구성 시 한 번에 조회하는 팀 수
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final TeamRepository teamRepository;
+    private final TeamSearchIndex teamSearchIndex;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        teamSearchIndex.beginRebuild();
+        long lastId = 0L;
+        int count = 0;
+        try {
+            while (true) {
+                List<TeamSearchDocumentMapping> teams = teamRepository.findSearchDocuments(Status.DISPLAYED, lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (TeamSearchDocumentMapping team : teams) {
+                    teamSearchIndex.add(team.getId(), team.getTeamName(), team.getTitle(), team.getTeamDesc(), team.getContent()
+                            , team.getTeamCategory(), team.getSkillMask() == null ? 0L : team.getSkillMask());
+                }
+                count += teams.size();
+                if (teams.size() < REBUILD_BATCH_SIZE) break;
+                lastId = teams.get(teams.size() - 1).getId();
+            }
+        } finally {
+            // NOTE 실패해도 이후 변경이 검색에 반영되도록 재구성 상태는 해제
+            teamSearchIndex.endRebuild();
+        }
+
+        log.debug("팀 검색 색인 구성 : {}", count);
+    }
+
+    // NOTE 롤백된 변경은 반영하지 않음 (트랜잭션 밖에서 발행된 경우 즉시 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        if (event.getStatus() == Status.DISPLAYED) {
+            teamSearchIndex.put(event.getTeamId(), event.getTeamName(), event.getTitle(), event.getTeamDesc(), event.getContent()
+                    , event.getTeamCategory(), event.getSkillMask());
+        } else {
+            teamSearchIndex.delete(event.getTeamId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamDeleted(TeamDeletedEvent event) {
+        teamSearchIndex.delete(event.getTeamId());
+    }
+
+    // NOTE 변경은 바로 검색에 반영되고, 디스크 커밋(fsync)은 모아서 처리
+    @Scheduled(fixedDelayString = "${withme.search.commit-interval-ms:10000}")
+    public void commit() {
+        teamSearchIndex.commit();
+    }
+}
@@ -1,18 +1,14 @@
 package com.withme.api.service;
 
 import com.withme.api.controller.dto.*;
-import com.withme.api.domain.commentLike.CommentLike;
 import com.withme.api.domain.commentLike.CommentLikeRepository;
-import com.withme.api.domain.skill.Skill;
+import com.withme.api.domain.skill.SkillName;
 import com.withme.api.domain.team.*;
 import com.withme.api.domain.teamComment.TeamComment;
 import com.withme.api.domain.teamComment.TeamCommentRepository;
-import com.withme.api.domain.teamLike.TeamLike;
 import com.withme.api.domain.teamLike.TeamLikeRepository;
 import com.withme.api.domain.teamNotice.TeamNotice;
 import com.withme.api.domain.teamNotice.TeamNoticeRepository;
-import com.withme.api.domain.teamSkill.TeamSkill;
-import com.withme.api.domain.teamSkill.TeamSkillRepository;
 import com.withme.api.domain.teamUser.MemberType;
 import com.withme.api.domain.teamUser.TeamUser;
 import com.withme.api.domain.teamUser.TeamUserRepository;
@@ -22,7 +18,9 @@ import com.withme.api.exception.BusinessException;
 import com.withme.api.jwt.TokenProvider;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -50,71 +48,82 @@ public class TeamService {
     private final TeamNoticeRepository teamNoticeRepository;
 
     private final TeamCommentRepository teamCommentRepository;
-    private final TeamSkillRepository teamSkillRepository;
 
     private final TeamLikeRepository teamLikeRepository;
 
     private final CommentLikeRepository commentLikeRepository;
 
+    private final TeamViewCountBuffer teamViewCountBuffer;
+
+    private final TeamRecommendPool teamRecommendPool;
+
+    private final TeamSkillIndex teamSkillIndex;
+
+    private final LikeCommandBuffer likeCommandBuffer;
+
+    private final SkillCatalog skillCatalog;
+
+    private final TeamDetailCache teamDetailCache;
+
+    private final TeamSearchIndex teamSearchIndex;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    // NOTE 댓글 페이지 크기 (기본, 최대), 부모 댓글당 대댓글 미리보기 수
+    private static final int COMMENT_PAGE_SIZE = 20;
+    private static final int MAX_COMMENT_PAGE_SIZE = 100;
+    private static final int COMMENT_CHILDREN_PREVIEW_SIZE = 5;
+    // NOTE 팀 상세 추천 팀 수
+    private static final int RECOMMEND_SIZE = 5;
+
     @Transactional
-    public List<TeamListResponseDto> getTeamList(TeamSearchDto teamSearchDto) throws Exception {
-
-        List<Team> teamList = new ArrayList<>();
-
-        // NOTE 검색 조건 사용을 위해 TeamSkill 조회
-        List<TeamSkill> teamSkills = teamSkillRepository.findAll();
-
-        // NOTE 스킬 입력
-        List<Skill> skillList = teamSearchDto.toSkillList();
-        // NOTE 검색 조건 만들기
-        List<TeamSkill> teamSkillList = toTeamListParams(skillList, teamSkills);
-
-        // NOTE 검색 조건에 맞는 teamSkill이 없고 검색 조건의 Skill이 없으면
-        if (teamSkillList.size() == 0 && skillList.size() == 0){
-            // NOTE 내림 차순
-            if (teamSearchDto.getSort() == 0){
-                teamList = teamRepository.findAllByStatusOrderByCreatedTimeDesc(Status.DISPLAYED).orElseThrow(
-                        () -> new NullPointerException("팀 조회 오류 (검색X)"));
-            }else {
-                teamList = teamRepository.findAllByStatusOrderByCreatedTimeAsc(Status.DISPLAYED).orElseThrow(
-                        () -> new NullPointerException("팀 조회 오류 (검색X)"));
-            }
-        }else{
-            if (teamSearchDto.getSort() == 0){
-                teamList = teamRepository.findDistinctTeamsByTeamSkillsInAndStatusOrderByCreatedTimeDesc(teamSkillList, Status.DISPLAYED)
-                        .orElseThrow(
-                                () -> new NullPointerException("팀 조회 오류 (검색O)"));
-            }else {
-                teamList = teamRepository.findDistinctTeamsByTeamSkillsInAndStatusOrderByCreatedTimeAsc(teamSkillList, Status.DISPLAYED)
-                        .orElseThrow(
-                                () -> new NullPointerException("팀 조회 오류 (검색O)"));
+    public TeamListPageResponseDto getTeamList(TeamSearchDto teamSearchDto) throws Exception {
+
+        int pageSize = teamSearchDto.resolvePageSize();
+        List<Team> teamList;
+        String nextCursor = null;
+        if (teamSearchDto.hasKeyword()) {
+            // NOTE 검색어가 있으면 검색 색인에서 관련도 순 팀 id 를 찾고, 해당 팀만 id 로 조회
+            TeamSearchIndex.Page page = teamSearchIndex.search(teamSearchDto.getKeyword(), teamSearchDto.getCategory()
+                    , SkillName.toBitmask(teamSearchDto.getSkills())
+                    , teamSearchDto.getSkillMatch() == null ? TeamSkillMatch.ANY : teamSearchDto.getSkillMatch()
+                    , teamSearchDto.getCursor(), pageSize);
+            teamList = toOrderedTeams(page.getTeamIds());
+            nextCursor = page.getNextCursor();
+        } else {
+            // NOTE 스킬(비트마스크), 카테고리, 정렬 기준, 커서를 한 번의 Team 단일 테이블 조회로 처리
+            TeamSearchCondition condition = teamSearchDto.toSearchCondition();
+
+            // NOTE 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+            teamList = teamRepository.search(condition, pageSize + 1);
+            if (teamList.size() > pageSize) {
+                teamList = teamList.subList(0, pageSize);
+                nextCursor = TeamListCursor.of(condition.getSortType(), teamList.get(pageSize - 1)).encode();
             }
         }
 
-        return teamList.stream()
+        List<TeamListResponseDto> teams = teamList.stream()
                 .map(TeamListResponseDto::new)
                 .collect(Collectors.toList());
+        // NOTE 아직 DB에 반영되지 않은 조회수 포함
+        teams.forEach(team -> team.setViewCount(team.getViewCount() + (int) teamViewCountBuffer.getPending(team.getId())));
+        // NOTE 아직 DB에 반영되지 않은 좋아요 포함
+        teams.forEach(team -> team.setTeamLikeCount(team.getTeamLikeCount() + (int) likeCommandBuffer.getPendingTeamLikeCount(team.getId())));
+        return new TeamListPageResponseDto(teams, nextCursor);
     }
-    // NOTE 팀 검색 조건 처리 로직
-    public List<TeamSkill> toTeamListParams(List<Skill> skills, List<TeamSkill> teamSkills) {
-        List<TeamSkill> teamSkillsParams = new ArrayList<>();
-        List<List<TeamSkill>> teamSkillsParamsList = new ArrayList<>();
-        // NOTE 검색 조건 걸러냄
-        for (Skill skill : skills) {
-            teamSkillsParams = teamSkills.stream()
-                    .filter(teamSkill -> {
-                        return teamSkill.getSkill().getSkillName().equals(skill.getSkillName());
-                    })
-                    .collect(Collectors.toList());
-            teamSkillsParamsList.add(teamSkillsParams);
-        }
 
-        // NOTE 검색 조건을 위해 리스트를 합침
-        List<TeamSkill> params = teamSkillsParamsList.stream()
-                .flatMap(x -> x.stream())
+    /**
+     * 검색 색인 순서대로 팀 조회 (색인 반영 전 숨김 처리된 팀은 제외)
+     * */
+    private List<Team> toOrderedTeams(List<Long> teamIds) {
+        if (teamIds.isEmpty()) return new ArrayList<>();
+        Map<Long, Team> teams = teamRepository.findAllById(teamIds).stream()
+                .filter(team -> team.getStatus() == Status.DISPLAYED)
+                .collect(Collectors.toMap(Team::getId, team -> team));
+        return teamIds.stream()
+                .map(teams::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
-
-        return params;
     }
 
     /**
@@ -128,7 +137,7 @@ public class TeamService {
         Long user_idx = tokenProvider.getUserIdFromToken(authHeader);
         
         // NOTE 팀으로 변경
-        Team team = createTeamDto.setTeamSkill();
+        Team team = createTeamDto.setTeamSkill(skillCatalog);
 
         User user = userRepository.findById(user_idx).orElseThrow(
                 ()-> new NullPointerException("존재하지않는 사용자"));
@@ -147,6 +156,7 @@ public class TeamService {
                 .build();
         team.addTeamUser(teamUser);
         Team returnTeam = teamRepository.save(team);
+        eventPublisher.publishEvent(new TeamChangedEvent(returnTeam));
 
         return returnTeam.getId();
     }
@@ -188,41 +198,201 @@ public class TeamService {
      * @return Team
      * 팀 게시물 상세 정보 조회
      * */
-    @Transactional
+    @Transactional(readOnly = true)
     public TeamDetailResponseDto getTeamListByTeamId(Long teamId, String authHeader) {
 
         Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        TeamDetailResponseDto snapshot = teamDetailCache.get(teamId, () -> loadTeamDetail(teamId));
+        // NOTE 조회수는 버퍼에 모아서 반영 (상세 조회시 team 행 UPDATE 없음)
+        teamViewCountBuffer.increase(teamId);
+
+        // NOTE 스냅샷은 비로그인 기준이므로 좋아요 여부만 사용자 기준으로 다시 계산
+        List<Long> commentIds = new ArrayList<>();
+        snapshot.getTeamComments().forEach(v -> {
+            commentIds.add(v.getId());
+            v.getCommentChildren().forEach(child -> commentIds.add(child.getId()));
+        });
+        Set<Long> likedCommentIds = findLikedCommentIds(teamId, userId, commentIds);
+        List<TeamCommentResponseDto> teamComments = snapshot.getTeamComments().stream()
+                .map(v -> new TeamCommentResponseDto(v, likedCommentIds))
+                .collect(Collectors.toList());
+
+        boolean teamLike = userId != null && isTeamLiked(teamId, userId);
+        TeamDetailResponseDto resultTeamDto = new TeamDetailResponseDto(snapshot, teamComments, teamLike);
+        resultTeamDto.setViewCount(snapshot.getViewCount() + (int) teamViewCountBuffer.getPending(teamId));
+
+        return resultTeamDto;
+    }
+    /**
+     * 팀 상세 스냅샷 (비로그인 기준, 조회수는 DB 값만 포함)
+     * */
+    private TeamDetailResponseDto loadTeamDetail(Long teamId) {
         Team resultTeam = teamRepository.findTeamById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("Team not found"))
-                .addViewCount();
+                .orElseThrow(() -> new EntityNotFoundException("Team Not Found. id : " + teamId));
 
         TeamUser teamUser = teamUserRepository.findTeamUserByTeamAndMemberType(resultTeam, MemberType.LEADER)
                 .orElseThrow(() -> new IllegalArgumentException("TeamUser not found"));
 
-        List<TeamComment> teamComments = teamCommentRepository.findTeamCommentByTeamAndParentIsNullOrderByIdDesc(resultTeam)
-                .orElseThrow(() -> new IllegalArgumentException("TeamUser not found"));
+        // NOTE 댓글은 첫 페이지만 포함 (이후 페이지는 댓글 조회 API로 조회)
+        TeamCommentPageResponseDto commentPage = getTeamCommentPage(teamId, null, null, null, resultTeam.getCommentCount());
 
-        List<TeamCommentResponseDto> teamCommentResponseDtos = teamComments.stream()
-                .map(v -> new TeamCommentResponseDto(v, userId))
+        TeamDetailResponseDto resultTeamDto = new TeamDetailResponseDto(resultTeam, commentPage.getComments(), teamUser, false);
+        resultTeamDto.setTeamLikeCount(resultTeam.getTeamLikeCount() + (int) likeCommandBuffer.getPendingTeamLikeCount(teamId));
+        resultTeamDto.setCommentNextCursor(commentPage.getNextCursor());
+        return resultTeamDto;
+    }
+    /**
+     * 팀 상세 ETag (팀 버전 + 사용자 id)
+     * */
+    public String getTeamDetailETag(Long teamId, String authHeader, List<TeamDetailRecommendReaponseDto> recommends) {
+        List<Long> recommendTeamIds = recommends.stream()
+                .map(TeamDetailRecommendReaponseDto::getId)
                 .collect(Collectors.toList());
+        return teamDetailCache.getETag(teamId, tokenProvider.getUserIdFromToken(authHeader), recommendTeamIds);
+    }
+    /**
+     * 팀 상세 조건부 조회 (If-None-Match 가 현재 ETag 와 같으면 true, 본문을 만들지 않아도 조회수는 증가)
+     * NOTE 공개 팀의 스냅샷이 캐시되어 있을 때만 304 (없거나 비공개면 일반 조회로 팀 존재 여부를 확인)
+     * */
+    public boolean isTeamDetailNotModified(Long teamId, String eTag, String ifNoneMatch) {
+        if (!TeamDetailCache.matches(ifNoneMatch, eTag)) return false;
 
-        TeamDetailResponseDto resultTeamDto = new TeamDetailResponseDto(resultTeam, teamCommentResponseDtos, teamUser, userId);
-        getTeamAndComment(teamId, resultTeamDto, userId);
+        TeamDetailResponseDto snapshot = teamDetailCache.getIfPresent(teamId);
+        if (snapshot == null || snapshot.getStatus() != Status.DISPLAYED) return false;
 
-        return resultTeamDto;
+        teamViewCountBuffer.increase(teamId);
+        return true;
+    }
+    /**
+     * 팀 댓글 페이지 조회
+     * */
+    @Transactional(readOnly = true)
+    public TeamCommentPageResponseDto getTeamCommentPage(Long teamId, Long cursor, Integer size, String authHeader) {
+        Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalArgumentException("Team not found"));
+
+        return getTeamCommentPage(teamId, cursor, size, userId, team.getCommentCount());
+    }
+    /**
+     * 팀 대댓글 페이지 조회
+     * */
+    @Transactional(readOnly = true)
+    public TeamChildrenCommentPageResponseDto getTeamChildrenCommentPage(Long teamId, Long commentId, Long cursor, Integer size, String authHeader) {
+        Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        int pageSize = resolveCommentPageSize(size);
+
+        List<TeamComment> children = teamCommentRepository.findChildCommentPage(teamId, commentId, cursor == null ? 0L : cursor, PageRequest.of(0, pageSize + 1));
+        Long nextCursor = null;
+        if (children.size() > pageSize) {
+            children = children.subList(0, pageSize);
+            nextCursor = children.get(pageSize - 1).getId();
+        }
+
+        Set<Long> likedCommentIds = findLikedCommentIds(teamId, userId, toCommentIds(children));
+        List<TeamChildrenCommentResponse> comments = children.stream()
+                .map(v -> toChildrenCommentResponse(teamId, v, likedCommentIds))
+                .collect(Collectors.toList());
+        return new TeamChildrenCommentPageResponseDto(comments, nextCursor);
+    }
+    /**
+     * 팀 댓글 페이지 조회 상세 로직 (다음 페이지 확인을 위해 한 건 더 조회)
+     * */
+    private TeamCommentPageResponseDto getTeamCommentPage(Long teamId, Long cursor, Integer size, Long userId, Integer totalCount) {
+        int pageSize = resolveCommentPageSize(size);
+
+        List<TeamComment> teamComments = teamCommentRepository.findRootCommentPage(teamId, cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, pageSize + 1));
+        Long nextCursor = null;
+        if (teamComments.size() > pageSize) {
+            teamComments = teamComments.subList(0, pageSize);
+            nextCursor = teamComments.get(pageSize - 1).getId();
+        }
+
+        List<TeamCommentResponseDto> comments = getTeamAndComment(teamId, teamComments, userId);
+        return new TeamCommentPageResponseDto(comments, nextCursor, totalCount);
     }
     /**
      * 팀상세 게시글 대댓글 조회 상세 로직
+     * NOTE 부모 댓글당 대댓글은 COMMENT_CHILDREN_PREVIEW_SIZE 건까지만 포함, 나머지는 대댓글 조회 API로 조회
      * */
-    public void getTeamAndComment(Long teamId, TeamDetailResponseDto dto, Long userId) {
-        dto.getTeamComments()
-                .forEach(teamComment -> {
-                    List<TeamComment> teamComments = teamCommentRepository.findTeamCommentsByTeamIdAndId(teamId, teamComment.getId());
-                    List<TeamChildrenCommentResponse> teamChildrenCommentResponses = teamComments.stream()
-                            .map(v -> new TeamChildrenCommentResponse(v, userId))
-                            .collect(Collectors.toList());
-                    teamComment.setCommentChildren(teamChildrenCommentResponses);
-                });
+    public List<TeamCommentResponseDto> getTeamAndComment(Long teamId, List<TeamComment> teamComments, Long userId) {
+        if (teamComments.isEmpty()) return new ArrayList<>();
+        List<Long> parentIds = teamComments.stream()
+                .map(TeamComment::getId)
+                .collect(Collectors.toList());
+
+        // NOTE 부모 댓글 수와 관계없이 대댓글은 한 번에 조회 후 부모 id 기준으로 묶음
+        // NOTE 다음 커서 확인용으로 부모당 미리보기 수 + 1 건까지만 DB에서 잘라서 조회
+        Map<Long, List<TeamComment>> childrenByParentId = new HashMap<>();
+        List<Long> childIds = teamCommentRepository.findChildCommentIdsPerParent(teamId, parentIds, COMMENT_CHILDREN_PREVIEW_SIZE + 1).stream()
+                .map(Number::longValue)
+                .collect(Collectors.toList());
+        if (!childIds.isEmpty()) {
+            teamCommentRepository.findTeamCommentsByIds(childIds)
+                    .forEach(v -> childrenByParentId.computeIfAbsent(v.getParent().getId(), id -> new ArrayList<>()).add(v));
+        }
+
+        // NOTE 응답에 포함되는 댓글/대댓글에 대해서만 좋아요 여부를 한 번에 조회
+        List<TeamComment> responseComments = new ArrayList<>(teamComments);
+        childrenByParentId.values().forEach(responseComments::addAll);
+        Set<Long> likedCommentIds = findLikedCommentIds(teamId, userId, toCommentIds(responseComments));
+
+        return teamComments.stream()
+                .map(v -> {
+                    TeamCommentResponseDto teamComment = new TeamCommentResponseDto(v, likedCommentIds);
+                    teamComment.setCommentLikeCount(v.getCommentLikeCount() + (int) likeCommandBuffer.getPendingCommentLikeCount(teamId, v.getId()));
+                    List<TeamComment> children = childrenByParentId.getOrDefault(v.getId(), new ArrayList<>());
+                    if (children.size() > COMMENT_CHILDREN_PREVIEW_SIZE) {
+                        children = children.subList(0, COMMENT_CHILDREN_PREVIEW_SIZE);
+                        teamComment.setCommentChildrenNextCursor(children.get(COMMENT_CHILDREN_PREVIEW_SIZE - 1).getId());
+                    }
+                    teamComment.setCommentChildren(children.stream()
+                            .map(child -> toChildrenCommentResponse(teamId, child, likedCommentIds))
+                            .collect(Collectors.toList()));
+                    return teamComment;
+                })
+                .collect(Collectors.toList());
+    }
+    /**
+     * 사용자가 좋아요한 댓글 id 조회 (비로그인이거나 댓글이 없으면 조회하지 않음)
+     * */
+    private Set<Long> findLikedCommentIds(Long teamId, Long userId, List<Long> commentIds) {
+        if (userId == null || commentIds.isEmpty()) return Collections.emptySet();
+        Set<Long> likedCommentIds = commentLikeRepository.findLikedCommentIds(teamId, userId, commentIds);
+        if (!likeCommandBuffer.isEnabled()) return likedCommentIds;
+
+        // NOTE 아직 DB에 반영되지 않은 좋아요, 좋아요 취소 반영
+        Set<Long> result = new HashSet<>(likedCommentIds);
+        for (Long commentId : commentIds) {
+            Boolean commentLike = likeCommandBuffer.getCommentLike(teamId, commentId, userId);
+            if (Boolean.TRUE.equals(commentLike)) result.add(commentId);
+            if (Boolean.FALSE.equals(commentLike)) result.remove(commentId);
+        }
+        return result;
+    }
+    /**
+     * 사용자의 팀 좋아요 여부 (아직 DB에 반영되지 않은 좋아요 포함)
+     * */
+    private boolean isTeamLiked(Long teamId, Long userId) {
+        Boolean teamLike = likeCommandBuffer.getTeamLike(teamId, userId);
+        return teamLike != null ? teamLike : teamLikeRepository.existsByTeamIdAndUserId(teamId, userId);
+    }
+
+    private static List<Long> toCommentIds(List<TeamComment> teamComments) {
+        return teamComments.stream()
+                .map(TeamComment::getId)
+                .collect(Collectors.toList());
+    }
+
+    private TeamChildrenCommentResponse toChildrenCommentResponse(Long teamId, TeamComment teamComment, Set<Long> likedCommentIds) {
+        TeamChildrenCommentResponse response = new TeamChildrenCommentResponse(teamComment, likedCommentIds);
+        response.setCommentLikeCount(teamComment.getCommentLikeCount() + (int) likeCommandBuffer.getPendingCommentLikeCount(teamId, teamComment.getId()));
+        return response;
+    }
+
+    private int resolveCommentPageSize(Integer size) {
+        if (size == null) return COMMENT_PAGE_SIZE;
+        return Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
     }
 
     /**
@@ -233,9 +403,10 @@ public class TeamService {
         String title = teamPostUpdateRequestDto.getTitle();
         String content = teamPostUpdateRequestDto.getContent();
 
-        return teamRepository.findById(teamId)
-                .orElseThrow(() -> new IllegalArgumentException("Team not found"))
-                .toTeamByTeamPost(title, content);
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new IllegalArgumentException("Team not found"));
+        // NOTE 팀 변경 이벤트는 flush 시점에 TeamEntityListener 에서 발행
+        return team.toTeamByTeamPost(title, content);
     }
     /**
      * 팀 댓글 추가
@@ -254,6 +425,7 @@ public class TeamService {
         if (dto.getParentId() == 0){
         TeamComment teamComment = new TeamComment(dto.getContent(), user, team);
         teamCommentRepository.save(teamComment);
+        teamRepository.updateCommentCount(teamId, 1);
         // NOTE 대댓글 등록
         }else if (dto.getParentId() != 0){
             TeamComment teamComment = teamCommentRepository.findTeamCommentByTeamIdAndId(teamId, dto.getParentId())
@@ -269,7 +441,9 @@ public class TeamService {
             teamComments.add(teamComment);
             teamComment2.setChildren(teamComments);
             teamCommentRepository.save(teamComment2);
+            teamRepository.updateCommentCount(teamId, 1);
         }
+        eventPublisher.publishEvent(new TeamDetailChangedEvent(teamId));
         return new TeamCommentAddResponseDto(201, teamId);
     }
     /**
@@ -287,6 +461,7 @@ public class TeamService {
         // NOTE 수정할 댓글이 조회되지않음
         if (teamComment.getId() == null) return new TeamCommentModifyResponseDto(420, teamId, dto.getCommentId());
         teamComment.setTeamCommentByContent(dto.getContent());
+        eventPublisher.publishEvent(new TeamDetailChangedEvent(teamId));
 
         return new TeamCommentModifyResponseDto(201, teamId, dto.getCommentId());
     }
@@ -302,68 +477,176 @@ public class TeamService {
         // NOTE 삭제할 댓글 조희 및 삭제 (find 후 delete 해야 커스텀 에러 가능)
         TeamComment teamComment = teamCommentRepository.findById(dto.getCommentId())
                 .orElseThrow(() -> new NullPointerException("not found comment"));
+        // NOTE 대댓글도 함께 삭제되므로 팀 댓글 개수에서 같이 차감
+        int deleteCount = 1 + teamComment.getChildren().size();
         teamCommentRepository.delete(teamComment);
+        teamRepository.updateCommentCount(teamComment.getTeam().getId(), -deleteCount);
+        eventPublisher.publishEvent(new TeamDetailChangedEvent(teamComment.getTeam().getId()));
         return new TeamCommentDeleteResponseDto(201, teamId, dto.getCommentId());
     }
     /**
-     *  팀 추천 (조회수순으로 가져와서 섞음)
+     *  팀 추천 (스킬이 비슷한 팀 우선, 부족하면 추천 팀 풀에서 샘플링, DB 조회 없음)
      * */
     public List<TeamDetailRecommendReaponseDto> getTeamRecommend(Long teamId) {
-        List<Team> teams = teamRepository.findTop5ByStatusOrderByViewCount(Status.DISPLAYED)
-                .orElseThrow(() -> new NullPointerException("not found team"));
+        List<TeamDetailRecommendReaponseDto> recommends = teamSkillIndex.findSimilar(teamId, RECOMMEND_SIZE);
+        if (recommends.size() >= RECOMMEND_SIZE) return recommends;
+
+        // NOTE 이미 추천된 팀과 겹칠 수 있으므로 넉넉하게 샘플링 후 중복 제외
+        Set<Long> recommendedIds = recommends.stream()
+                .map(TeamDetailRecommendReaponseDto::getId)
+                .collect(Collectors.toSet());
+        for (TeamDetailRecommendReaponseDto team : teamRecommendPool.sample(teamId, RECOMMEND_SIZE * 2)) {
+            if (recommends.size() >= RECOMMEND_SIZE) break;
+            if (recommendedIds.add(team.getId())) recommends.add(team);
+        }
+        return recommends;
+    }
+    /**
+     *  팀 좋아요 등록, 취소 (토글)
+     * */
+    @Transactional
+    public TeamLikeResponseDto teamLike(Long teamId, String authHeader) {
+        Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        TeamLikeResponseDto buffered = offerTeamLike(teamId, userId, null);
+        if (buffered != null) return buffered;
 
-        Collections.shuffle(teams);
+        // NOTE 먼저 취소를 시도하고 취소할 좋아요가 없으면 등록 (조회 없이 변경된 행 수로 판단)
+        if (teamLikeRepository.deleteTeamLike(teamId, userId) > 0) {
+            teamRepository.updateTeamLikeCount(teamId, -1);
+            return toTeamLikeResponse(teamId, false);
+        }
+        return likeTeam(teamId, userId);
+    }
+    /**
+     *  팀 좋아요 등록 (이미 좋아요한 경우 그대로 유지)
+     * */
+    @Transactional
+    public TeamLikeResponseDto likeTeam(Long teamId, String authHeader) {
+        Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        TeamLikeResponseDto buffered = offerTeamLike(teamId, userId, true);
+        if (buffered != null) return buffered;
 
-        return teams.stream()
-                .map(TeamDetailRecommendReaponseDto::new)
-                .collect(Collectors.toList());
+        return likeTeam(teamId, userId);
     }
     /**
-     *  팀 좋아요 기능
+     *  팀 좋아요 취소 (좋아요하지 않은 경우 그대로 유지)
      * */
     @Transactional
-    public void teamLike(Long teamId, String authHeader) {
+    public TeamLikeResponseDto unlikeTeam(Long teamId, String authHeader) {
         Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        TeamLikeResponseDto buffered = offerTeamLike(teamId, userId, false);
+        if (buffered != null) return buffered;
 
-        TeamLike teamLike = teamLikeRepository.findTeamLikeByTeamAndUser(teamId, userId)
-                .orElseGet(TeamLike::new);
-
-        // NOTE 이미 좋아요 있음 (좋아요 취소)
-        if (teamLike.getId() != null){
-            teamLikeRepository.deleteById(teamLike.getId());
-        // NOTE 좋아요 없음 (좋아요 등록)
-        }else {
-            Team team = teamRepository.findById(teamId)
-                    .orElseThrow(() -> new NullPointerException("not found team"));
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new NullPointerException("not found user"));
-            teamLikeRepository.save(new TeamLike(team, user));
+        if (teamLikeRepository.deleteTeamLike(teamId, userId) > 0) {
+            teamRepository.updateTeamLikeCount(teamId, -1);
         }
+        return toTeamLikeResponse(teamId, false);
     }
     /**
-     *  댓글 좋아요 기능
+     *  댓글 좋아요 등록, 취소 (토글)
      * */
-    public void commentLike(Long teamId, CommentLikeRequestDto dto, String authHeader) {
+    @Transactional
+    public CommentLikeResponseDto commentLike(Long teamId, CommentLikeRequestDto dto, String authHeader) {
         Long commentId = dto.getCommentId();
         Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        CommentLikeResponseDto buffered = offerCommentLike(teamId, commentId, userId, null);
+        if (buffered != null) return buffered;
 
-        CommentLike commentLike = commentLikeRepository.findCommentLikeByTeamAndUserAndTeamComment(teamId, userId, commentId)
-                .orElseGet(CommentLike::new);
-
-        // NOTE 이미 좋아요 있음 (좋아요 취소)
-        if (commentLike.getId() != null){
-            commentLikeRepository.deleteById(commentLike.getId());
-            // NOTE 좋아요 없음 (좋아요 등록)
-        }else {
-            Team team = teamRepository.findById(teamId)
-                    .orElseThrow(() -> new NullPointerException("not found team"));
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new NullPointerException("not found user"));
-            TeamComment teamComment = teamCommentRepository.findById(commentId)
-                    .orElseThrow(() -> new NullPointerException("not found teamComment"));
-            commentLikeRepository.save(new CommentLike(team, user, teamComment));
+        // NOTE 먼저 취소를 시도하고 취소할 좋아요가 없으면 등록 (조회 없이 변경된 행 수로 판단)
+        if (commentLikeRepository.deleteCommentLike(teamId, userId, commentId) > 0) {
+            teamCommentRepository.updateCommentLikeCount(commentId, -1);
+            return toCommentLikeResponse(teamId, commentId, false);
         }
+        return likeComment(teamId, commentId, userId);
+    }
+    /**
+     *  댓글 좋아요 등록 (이미 좋아요한 경우 그대로 유지)
+     * */
+    @Transactional
+    public CommentLikeResponseDto likeComment(Long teamId, Long commentId, String authHeader) {
+        Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        CommentLikeResponseDto buffered = offerCommentLike(teamId, commentId, userId, true);
+        if (buffered != null) return buffered;
+
+        return likeComment(teamId, commentId, userId);
+    }
+    /**
+     *  댓글 좋아요 취소 (좋아요하지 않은 경우 그대로 유지)
+     * */
+    @Transactional
+    public CommentLikeResponseDto unlikeComment(Long teamId, Long commentId, String authHeader) {
+        Long userId = tokenProvider.getUserIdFromToken(authHeader);
+        CommentLikeResponseDto buffered = offerCommentLike(teamId, commentId, userId, false);
+        if (buffered != null) return buffered;
+
+        if (commentLikeRepository.deleteCommentLike(teamId, userId, commentId) > 0) {
+            teamCommentRepository.updateCommentLikeCount(commentId, -1);
+        }
+        return toCommentLikeResponse(teamId, commentId, false);
+    }
+
+    private TeamLikeResponseDto likeTeam(Long teamId, Long userId) {
+        // NOTE 등록된 경우에만 개수 증가 (중복 클릭, 동시 요청은 0 건)
+        if (teamLikeRepository.insertTeamLike(teamId, userId) > 0) {
+            teamRepository.updateTeamLikeCount(teamId, 1);
+        }
+        return toTeamLikeResponse(teamId, true);
+    }
+
+    private CommentLikeResponseDto likeComment(Long teamId, Long commentId, Long userId) {
+        // NOTE 등록된 경우에만 개수 증가 (중복 클릭, 동시 요청은 0 건)
+        if (commentLikeRepository.insertCommentLike(teamId, userId, commentId) > 0) {
+            teamCommentRepository.updateCommentLikeCount(commentId, 1);
+        }
+        return toCommentLikeResponse(teamId, commentId, true);
+    }
+
+    /**
+     *  좋아요 버퍼 사용 시 DB에 바로 쓰지 않고 버퍼에 반영 (버퍼를 사용하지 않거나 가득 차면 null)
+     * */
+    private TeamLikeResponseDto offerTeamLike(Long teamId, Long userId, Boolean teamLike) {
+        if (!likeCommandBuffer.isEnabled()) return null;
+        // NOTE 없는 팀은 버퍼에 넣지 않음 (최근 개수를 조회한 팀은 버퍼에 캐시된 개수로 확인)
+        int teamLikeCount = likeCommandBuffer.getPersistedTeamLikeCount(teamId, () -> findTeamLikeCount(teamId));
+
+        Boolean result = likeCommandBuffer.offerTeamLike(teamId, userId, teamLike,
+                () -> teamLikeRepository.existsByTeamIdAndUserId(teamId, userId));
+        if (result == null) return null;
+        eventPublisher.publishEvent(new TeamDetailChangedEvent(teamId));
+        return new TeamLikeResponseDto(teamId, result, teamLikeCount + (int) likeCommandBuffer.getPendingTeamLikeCount(teamId));
+    }
+
+    private CommentLikeResponseDto offerCommentLike(Long teamId, Long commentId, Long userId, Boolean commentLike) {
+        if (!likeCommandBuffer.isEnabled()) return null;
+        // NOTE 팀에 없는 댓글은 버퍼에 넣지 않음 (최근 개수를 조회한 댓글은 버퍼에 캐시된 개수로 확인)
+        int commentLikeCount = likeCommandBuffer.getPersistedCommentLikeCount(teamId, commentId, () -> findCommentLikeCount(teamId, commentId));
+
+        Boolean result = likeCommandBuffer.offerCommentLike(teamId, commentId, userId, commentLike,
+                () -> commentLikeRepository.existsByTeamIdAndUserIdAndTeamCommentId(teamId, userId, commentId));
+        if (result == null) return null;
+        eventPublisher.publishEvent(new TeamDetailChangedEvent(teamId));
+        return new CommentLikeResponseDto(teamId, commentId, result, commentLikeCount + (int) likeCommandBuffer.getPendingCommentLikeCount(teamId, commentId));
+    }
+
+    // NOTE 좋아요 DB 반영 후 응답을 만들 때 상세 캐시 무효화 이벤트도 함께 발행 (커밋 이후 처리)
+    private TeamLikeResponseDto toTeamLikeResponse(Long teamId, boolean teamLike) {
+        eventPublisher.publishEvent(new TeamDetailChangedEvent(teamId));
+        return new TeamLikeResponseDto(teamId, teamLike, findTeamLikeCount(teamId) + (int) likeCommandBuffer.getPendingTeamLikeCount(teamId));
+    }
+
+    private CommentLikeResponseDto toCommentLikeResponse(Long teamId, Long commentId, boolean commentLike) {
+        eventPublisher.publishEvent(new TeamDetailChangedEvent(teamId));
+        return new CommentLikeResponseDto(teamId, commentId, commentLike, findCommentLikeCount(teamId, commentId) + (int) likeCommandBuffer.getPendingCommentLikeCount(teamId, commentId));
+    }
+
+    private Integer findTeamLikeCount(Long teamId) {
+        return teamRepository.findTeamLikeCountById(teamId)
+                .orElseThrow(() -> new EntityNotFoundException("Team Not Found. id : " + teamId));
+    }
 
+    private Integer findCommentLikeCount(Long teamId, Long commentId) {
+        return teamCommentRepository.findCommentLikeCountById(teamId, commentId)
+                .orElseThrow(() -> new EntityNotFoundException("TeamComment Not Found. id : " + commentId));
     }
 
     @Transactional
@@ -0,0 +1,255 @@
+package com.withme.api.service;
+
+import com.withme.api.controller.dto.TeamDetailRecommendReaponseDto;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.TeamSkillMaskMapping;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 팀 스킬 유사도 인덱스
+ * NOTE 팀마다 슬롯 번호를 부여해 스킬 비트마스크를 배열에 저장하고, 스킬별로 해당 스킬을 가진 슬롯을 BitSet(역색인)으로 관리
+ *      유사 팀 조회 시 대상 팀 스킬의 역색인을 OR 한 슬롯만 Jaccard(공통 스킬 수 / 합집합 스킬 수)로 점수 계산
+ */
+@Component
+public class TeamSkillIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // NOTE 팀 ID -> 슬롯 번호 (등록/수정 시에만 사용, 조회 시에는 배열만 순회)
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private long[] teamIds = new long[INITIAL_CAPACITY];
+    private long[] skillMasks = new long[INITIAL_CAPACITY];
+    private String[] titles = new String[INITIAL_CAPACITY];
+    private int size;
+    // NOTE 삭제된 팀의 빈 슬롯 수 (teamIds 값 0, 절반을 넘으면 등록 순서를 유지한 채 압축)
+    private int removed;
+
+    // NOTE 게시중(DISPLAYED)인 팀 슬롯
+    private final BitSet displayed = new BitSet();
+    // NOTE 스킬(SkillName 선언 순서) -> 해당 스킬을 가진 팀 슬롯
+    private final BitSet[] postings = new BitSet[SkillName.values().length];
+
+    public TeamSkillIndex() {
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = new BitSet();
+        }
+    }
+
+    /**
+     * 인덱스 전체 재구성
+     * */
+    public void rebuild(Collection<TeamSkillMaskMapping> teams) {
+        lock.writeLock().lock();
+        try {
+            clearInternal();
+            for (TeamSkillMaskMapping team : teams) {
+                putInternal(team.getId(), team.getTitle(), team.getSkillMask() == null ? 0L : team.getSkillMask(), team.getStatus() == Status.DISPLAYED);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 팀 등록 또는 수정 반영
+     * */
+    public void put(Long teamId, String title, long skillMask, boolean isDisplayed) {
+        lock.writeLock().lock();
+        try {
+            putInternal(teamId, title, skillMask, isDisplayed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제된 팀 제거
+     * */
+    public void remove(Long teamId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(teamId);
+            if (slot == null) return;
+            clearPostings(slot);
+            teamIds[slot] = 0L;
+            skillMasks[slot] = 0L;
+            titles[slot] = null;
+            displayed.clear(slot);
+            if (++removed > size / 2) compact();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 스킬이 가장 많이 겹치는 게시중인 팀 최대 k 건 (유사도 내림차순, 같으면 최신 팀 우선)
+     * */
+    public List<TeamDetailRecommendReaponseDto> findSimilar(Long teamId, int k) {
+        if (teamId == null || k <= 0) return new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(teamId);
+            if (slot == null || skillMasks[slot] == 0L) return new ArrayList<>();
+
+            long mask = skillMasks[slot];
+            BitSet candidates = new BitSet(size);
+            for (long bits = mask; bits != 0; bits &= bits - 1) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                if (bit < postings.length) candidates.or(postings[bit]);
+            }
+            candidates.and(displayed);
+            candidates.clear(slot);
+
+            // NOTE 크기 k 의 최소 힙 (루트가 현재 k 건 중 가장 낮은 점수)
+            double[] heapScores = new double[k];
+            int[] heapSlots = new int[k];
+            int heapSize = 0;
+            for (int candidate = candidates.nextSetBit(0); candidate >= 0; candidate = candidates.nextSetBit(candidate + 1)) {
+                long other = skillMasks[candidate];
+                double score = (double) Long.bitCount(mask & other) / Long.bitCount(mask | other);
+                if (heapSize < k) {
+                    heapScores[heapSize] = score;
+                    heapSlots[heapSize] = candidate;
+                    siftUp(heapScores, heapSlots, heapSize++);
+                } else if (isBetter(score, candidate, heapScores[0], heapSlots[0])) {
+                    heapScores[0] = score;
+                    heapSlots[0] = candidate;
+                    siftDown(heapScores, heapSlots, heapSize);
+                }
+            }
+
+            // NOTE 힙에서 낮은 점수부터 꺼내 뒤에서부터 채움
+            TeamDetailRecommendReaponseDto[] result = new TeamDetailRecommendReaponseDto[heapSize];
+            for (int i = heapSize - 1; i >= 0; i--) {
+                int top = heapSlots[0];
+                result[i] = new TeamDetailRecommendReaponseDto(teamIds[top], titles[top]);
+                heapScores[0] = heapScores[i];
+                heapSlots[0] = heapSlots[i];
+                siftDown(heapScores, heapSlots, i);
+            }
+            return new ArrayList<>(Arrays.asList(result));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size - removed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void putInternal(Long teamId, String title, long skillMask, boolean isDisplayed) {
+        Integer slot = slots.get(teamId);
+        if (slot == null) {
+            slot = size++;
+            ensureCapacity(size);
+            slots.put(teamId, slot);
+            teamIds[slot] = teamId;
+        } else {
+            // NOTE 기존 스킬 역색인에서 제거 후 다시 등록
+            clearPostings(slot);
+        }
+        skillMasks[slot] = skillMask;
+        titles[slot] = title;
+        for (long bits = skillMask; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            if (bit < postings.length) postings[bit].set(slot);
+        }
+        displayed.set(slot, isDisplayed);
+    }
+
+    private void clearPostings(int slot) {
+        for (long bits = skillMasks[slot]; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            if (bit < postings.length) postings[bit].clear(slot);
+        }
+    }
+
+    private void clearInternal() {
+        slots.clear();
+        size = 0;
+        removed = 0;
+        displayed.clear();
+        for (BitSet posting : postings) {
+            posting.clear();
+        }
+        Arrays.fill(teamIds, 0L);
+        Arrays.fill(skillMasks, 0L);
+        Arrays.fill(titles, null);
+    }
+
+    /**
+     * 빈 슬롯을 제외하고 다시 등록 (슬롯 순서가 등록 순서이므로 유사도가 같을 때의 우선순위는 그대로)
+     * */
+    private void compact() {
+        long[] oldTeamIds = Arrays.copyOf(teamIds, size);
+        long[] oldSkillMasks = Arrays.copyOf(skillMasks, size);
+        String[] oldTitles = Arrays.copyOf(titles, size);
+        BitSet oldDisplayed = (BitSet) displayed.clone();
+        int oldSize = size;
+
+        clearInternal();
+        for (int slot = 0; slot < oldSize; slot++) {
+            if (oldTeamIds[slot] == 0L) continue;
+            putInternal(oldTeamIds[slot], oldTitles[slot], oldSkillMasks[slot], oldDisplayed.get(slot));
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= teamIds.length) return;
+        int newCapacity = Math.max(capacity, teamIds.length * 2);
+        teamIds = Arrays.copyOf(teamIds, newCapacity);
+        skillMasks = Arrays.copyOf(skillMasks, newCapacity);
+        titles = Arrays.copyOf(titles, newCapacity);
+    }
+
+    /**
+     * 점수가 높을수록, 점수가 같으면 나중에 등록된 팀(슬롯 번호가 큰 팀)일수록 우선
+     * */
+    private static boolean isBetter(double score, int slot, double otherScore, int otherSlot) {
+        return score > otherScore || (score == otherScore && slot > otherSlot);
+    }
+
+    private static void siftUp(double[] scores, int[] slots, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!isBetter(scores[parent], slots[parent], scores[index], slots[index])) break;
+            swap(scores, slots, parent, index);
+            index = parent;
+        }
+    }
+
+    private static void siftDown(double[] scores, int[] slots, int heapSize) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= heapSize) break;
+            int right = left + 1;
+            int worst = (right < heapSize && isBetter(scores[left], slots[left], scores[right], slots[right])) ? right : left;
+            if (!isBetter(scores[index], slots[index], scores[worst], slots[worst])) break;
+            swap(scores, slots, index, worst);
+            index = worst;
+        }
+    }
+
+    private static void swap(double[] scores, int[] slots, int a, int b) {
+        double score = scores[a];
+        scores[a] = scores[b];
+        scores[b] = score;
+        int slot = slots[a];
+        slots[a] = slots[b];
+        slots[b] = slot;
+    }
+}
@@ -0,0 +1,50 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.TeamChangedEvent;
+import com.withme.api.domain.team.TeamDeletedEvent;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.team.TeamSkillMaskMapping;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 팀 스킬 유사도 인덱스 구성 및 갱신
+ * NOTE 시작 시 전체 팀으로 구성하고 이후에는 팀 등록/수정/삭제 커밋 시점에 해당 팀만 반영
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TeamSkillIndexUpdater {
+
+    private final TeamRepository teamRepository;
+    private final TeamSkillIndex teamSkillIndex;
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<TeamSkillMaskMapping> teams = teamRepository.findAllProjectedBy();
+        teamSkillIndex.rebuild(teams);
+
+        log.debug("팀 스킬 인덱스 구성 : {}", teams.size());
+    }
+
+    // NOTE 롤백된 변경은 반영하지 않음 (트랜잭션 밖에서 발행된 경우 즉시 반영)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        teamSkillIndex.put(event.getTeamId(), event.getTitle(), event.getSkillMask(), event.getStatus() == Status.DISPLAYED);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTeamDeleted(TeamDeletedEvent event) {
+        teamSkillIndex.remove(event.getTeamId());
+    }
+}
@@ -0,0 +1,139 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.team.TeamCountFlushedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 팀 게시물 조회수 쓰기 지연 버퍼
+ * NOTE 조회할 때마다 team 행을 UPDATE(행 잠금) 하지 않고 메모리에 모아두었다가 주기적으로 한 번에 반영
+ *      반영 전 조회수는 DB 값 + getPending() 으로 계산
+ *      chunkSize 건씩 트랜잭션으로 반영하고 실패한 묶음만 다시 대기 (반영된 묶음은 다시 더하지 않음)
+ */
+@Slf4j
+@Component
+public class TeamViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE team SET view_count = view_count + ? WHERE team_idx = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    // NOTE 팀 id 별 반영 대기 조회수 (인기 팀에 조회가 몰려도 경합이 적도록 LongAdder, flush 시 sumThenReset 으로 꺼냄)
+    //      직전 flush 이후 조회가 없던 팀만 제거 (제거와 동시에 들어온 증가분은 다시 꺼내서 옮김)
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // NOTE 꺼냈지만 아직 커밋되지 않은 조회수 (반영 중에도 DB 값 + getPending() 이 줄어들지 않도록 함께 합산)
+    private final Map<Long, Long> flushing = new ConcurrentHashMap<>();
+
+    public TeamViewCountBuffer(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${withme.view-count.flush-chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 조회수 1 증가 (DB 반영은 flush 시점)
+     * */
+    public void increase(Long teamId) {
+        adder(teamId).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     * */
+    public long getPending(Long teamId) {
+        LongAdder adder = pending.get(teamId);
+        return (adder == null ? 0L : adder.sum()) + flushing.getOrDefault(teamId, 0L);
+    }
+
+    /**
+     * 대기 중인 조회수를 배치 UPDATE 로 반영
+     * */
+    @Scheduled(fixedDelayString = "${withme.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Set<Long> teamIds = flushPending();
+        if (!teamIds.isEmpty()) eventPublisher.publishEvent(new TeamCountFlushedEvent(teamIds));
+    }
+
+    // NOTE 종료 시에는 반영만 하고 이벤트는 발행하지 않음 (이벤트를 받을 빈이 먼저 정리될 수 있음)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushPending();
+    }
+
+    /**
+     * 반영한 팀 id 리턴 (반영할 것이 없거나 모두 실패하면 빈 값)
+     * */
+    private synchronized Set<Long> flushPending() {
+        // NOTE 꺼낸 만큼만 0 으로 돌리므로 flush 도중 들어온 증가분은 다음 flush 로 넘어감
+        List<Object[]> deltas = new ArrayList<>();
+        pending.forEach((teamId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0) {
+                if (pending.remove(teamId, adder)) {
+                    long late = adder.sumThenReset();
+                    if (late != 0) increase(teamId, late);
+                }
+                return;
+            }
+            // NOTE 꺼낸 값은 커밋될 때까지 flushing 에서 조회 (꺼낸 후 커밋 전까지 조회수가 줄어 보이지 않음)
+            flushing.merge(teamId, delta, Long::sum);
+            deltas.add(new Object[]{delta, teamId});
+        });
+        if (deltas.isEmpty()) return Collections.emptySet();
+
+        Set<Long> teamIds = new HashSet<>();
+        for (int from = 0; from < deltas.size(); from += chunkSize) {
+            List<Object[]> chunk = deltas.subList(from, Math.min(from + chunkSize, deltas.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, chunk));
+            } catch (RuntimeException e) {
+                // NOTE 롤백된 묶음만 대기 조회수로 되돌려 다음 flush 에서 다시 시도
+                chunk.forEach(delta -> {
+                    increase((Long) delta[1], (Long) delta[0]);
+                    settle((Long) delta[1], (Long) delta[0]);
+                });
+                log.error("[ERROR] : 팀 조회수 반영 실패 - {} 건", chunk.size(), e);
+                continue;
+            }
+            chunk.forEach(delta -> {
+                settle((Long) delta[1], (Long) delta[0]);
+                teamIds.add((Long) delta[1]);
+            });
+        }
+        log.debug("팀 조회수 반영 : {} 건", teamIds.size());
+        return teamIds;
+    }
+
+    private void increase(Long teamId, long delta) {
+        adder(teamId).add(delta);
+    }
+
+    // NOTE 이미 있는 팀은 잠금 없이 조회 (computeIfAbsent 는 새 팀일 때만)
+    private LongAdder adder(Long teamId) {
+        LongAdder adder = pending.get(teamId);
+        return adder != null ? adder : pending.computeIfAbsent(teamId, id -> new LongAdder());
+    }
+
+    // NOTE 커밋(또는 되돌림)된 조회수를 flushing 에서 제거
+    private void settle(Long teamId, long delta) {
+        flushing.computeIfPresent(teamId, (id, current) -> current == delta ? null : current - delta);
+    }
+}
@@ -1,5 +1,6 @@
 package com.withme.api.service;
 
+import com.withme.api.config.auth.PrincipalDetailsCache;
 import com.withme.api.controller.dto.JoinRequestDto;
 import com.withme.api.controller.dto.MyPageResponseDto;
 import com.withme.api.controller.dto.UserUpdateRequestDto;
@@ -19,6 +20,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalDetailsCache principalDetailsCache;
 
     @Transactional
     public User createUser(JoinRequestDto dto){
@@ -42,6 +44,7 @@ public class UserService {
             throw new BusinessException("Nickname Duplicated");
         } else {
             user.changeNickname(dto.getNickname());
+            principalDetailsCache.evict(userId);
         }
     }
 
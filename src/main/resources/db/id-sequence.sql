@@ -0,0 +1,28 @@
+-- NOTE 엔티티 id 생성 전략을 IDENTITY -> SEQUENCE(pooled, allocationSize 50) 로 바꾼 뒤 기존 DB에 한 번 실행
+--      MySQL 은 시퀀스가 없어 Hibernate 가 단일 행 테이블(next_val)로 대체하므로, 기존 최대 id 이후부터 할당되도록 초기값을 맞춤
+--      (pooled 는 조회한 값을 블록의 마지막 id 로 사용하므로 최대 id + allocationSize + 1 로 설정)
+--      team_like, comment_like 는 INSERT IGNORE 로 등록하므로 AUTO_INCREMENT 유지 (대상 아님)
+
+CREATE TABLE IF NOT EXISTS user_seq (next_val BIGINT);
+DELETE FROM user_seq;
+INSERT INTO user_seq SELECT COALESCE(MAX(user_idx), 0) + 51 FROM user;
+
+CREATE TABLE IF NOT EXISTS team_seq (next_val BIGINT);
+DELETE FROM team_seq;
+INSERT INTO team_seq SELECT COALESCE(MAX(team_idx), 0) + 51 FROM team;
+
+CREATE TABLE IF NOT EXISTS team_notice_seq (next_val BIGINT);
+DELETE FROM team_notice_seq;
+INSERT INTO team_notice_seq SELECT COALESCE(MAX(team_notice_idx), 0) + 51 FROM team_notice;
+
+CREATE TABLE IF NOT EXISTS team_comment_seq (next_val BIGINT);
+DELETE FROM team_comment_seq;
+INSERT INTO team_comment_seq SELECT COALESCE(MAX(comment_id), 0) + 51 FROM team_comment;
+
+CREATE TABLE IF NOT EXISTS team_skill_seq (next_val BIGINT);
+DELETE FROM team_skill_seq;
+INSERT INTO team_skill_seq SELECT COALESCE(MAX(team_skill_idx), 0) + 51 FROM team_skill;
+
+CREATE TABLE IF NOT EXISTS team_user_seq (next_val BIGINT);
+DELETE FROM team_user_seq;
+INSERT INTO team_user_seq SELECT COALESCE(MAX(team_user_idx), 0) + 51 FROM team_user;
@@ -0,0 +1,12 @@
+-- NOTE 팀 리스트 검색 조건(카테고리, 조회수/좋아요 정렬)을 추가한 뒤 기존 DB에 한 번 실행
+--      정렬 컬럼 다음에 team_idx 를 두어 키셋 커서(정렬값, id) 조건과 ORDER BY 를 인덱스만으로 처리
+--      (ddl-auto=update 는 새 인덱스만 만들고 이름이 바뀐 이전 인덱스는 지우지 않음)
+
+DROP INDEX TEAM_STATUS_VIEWCOUNT_INDEX ON team;
+DROP INDEX TEAM_STATUS_TEAMLIKECOUNT_INDEX ON team;
+
+CREATE INDEX TEAM_STATUS_VIEWCOUNT_ID_INDEX ON team (status, view_count, team_idx);
+CREATE INDEX TEAM_STATUS_TEAMLIKECOUNT_ID_INDEX ON team (status, team_like_count, team_idx);
+CREATE INDEX TEAM_STATUS_CATEGORY_CREATEDTIME_INDEX ON team (status, team_category, created_time, team_idx);
+CREATE INDEX TEAM_STATUS_CATEGORY_VIEWCOUNT_INDEX ON team (status, team_category, view_count, team_idx);
+CREATE INDEX TEAM_STATUS_CATEGORY_TEAMLIKECOUNT_INDEX ON team (status, team_category, team_like_count, team_idx);
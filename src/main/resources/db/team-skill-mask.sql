@@ -0,0 +1,9 @@
+-- NOTE 팀 스킬 비트마스크(skill_mask) 컬럼을 추가한 뒤 기존 DB에 한 번 실행
+--      이후 등록/수정되는 팀은 Team.addTeamSkill, removeTeamSkill 에서 비트마스크를 함께 갱신
+--      FIELD 인자 순서는 SkillName 선언 순서(비트 위치)와 같아야 함 (새 스킬은 마지막에 추가)
+
+UPDATE team T SET skill_mask = COALESCE((
+    SELECT BIT_OR(1 << (FIELD(TS.skill_name, 'android', 'angular', 'aws', 'c', 'cpp', 'cs', 'css', 'deno', 'django', 'docker', 'flutter', 'go', 'html', 'java', 'javascript', 'kotlin', 'kubernetes', 'linux', 'nodejs', 'python', 'r', 'react', 'ruby', 'sass', 'spring', 'sql', 'svelte', 'swift', 'typescript', 'ubuntu', 'vue') - 1))
+    FROM team_skill TS
+    WHERE TS.team_idx = T.team_idx
+), 0);
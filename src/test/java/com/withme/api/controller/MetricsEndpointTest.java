@@ -0,0 +1,74 @@
+package com.withme.api.controller;
+
+import com.withme.api.domain.user.User;
+import com.withme.api.domain.user.UserRepository;
+import com.withme.api.jwt.TokenProvider;
+import com.withme.api.support.AdminToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// NOTE 테스트에서는 기본적으로 메트릭 export 가 꺼지므로 프로메테우스 레지스트리를 켬
+@AutoConfigureMetrics
+@ActiveProfiles("local")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class MetricsEndpointTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private User admin;
+
+    @BeforeEach
+    public void setup() {
+        admin = userRepository.save(AdminToken.newAdmin("메트릭관리자"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userRepository.delete(admin);
+    }
+
+    @Test
+    public void 프로메테우스_수집() throws Exception {
+        restTemplate.getForEntity("/api/v1/team/{teamId}/team-member", String.class, 0L);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, AdminToken.of(tokenProvider, admin));
+        ResponseEntity<String> response = restTemplate.exchange("/actuator/prometheus", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("http_server_requests_seconds_bucket{application=\"withme-api\"")
+                .contains("uri=\"/api/v1/team/{teamId}/team-member\"")
+                .contains("spring_data_repository_invocations_seconds_bucket")
+                .contains("hikaricp_connections_active")
+                .contains("jvm_gc_pause_seconds")
+                .contains("withme_sql_statements_bucket");
+    }
+
+    @Test
+    public void 프로메테우스_수집_실패_권한없음() throws Exception {
+        assertThat(restTemplate.getForEntity("/actuator/prometheus", String.class).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(restTemplate.getForEntity("/actuator/metrics", String.class).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(restTemplate.getForEntity("/actuator/health", String.class).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,130 @@
+package com.withme.api.controller;
+
+import com.withme.api.config.trace.RequestTrace;
+import com.withme.api.config.trace.RequestTraceBuffer;
+import com.withme.api.config.trace.TraceSpan;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.user.User;
+import com.withme.api.domain.user.UserRepository;
+import com.withme.api.filter.RequestTraceFilter;
+import com.withme.api.jwt.TokenProvider;
+import com.withme.api.support.AdminToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("local")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class RequestTraceTest {
+
+    private static final String URL = "/api/v1/team/{teamId}/team-member";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private RequestTraceBuffer requestTraceBuffer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    private User admin;
+
+    @BeforeEach
+    public void setup() {
+        admin = userRepository.save(AdminToken.newAdmin("트레이스관리자"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        teamRepository.deleteAll();
+        userRepository.delete(admin);
+    }
+
+    @Test
+    public void 디버그_헤더_Server_Timing() throws Exception {
+        Long teamId = saveTeam();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(RequestTraceFilter.DEBUG_TIMING_HEADER, "true");
+        headers.set(HttpHeaders.AUTHORIZATION, AdminToken.of(tokenProvider, admin));
+
+        ResponseEntity<String> response = restTemplate.exchange(URL, HttpMethod.GET, new HttpEntity<>(headers), String.class, teamId);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo("[]");
+        assertThat(response.getHeaders().getFirst(RequestTraceFilter.SERVER_TIMING_HEADER))
+                .startsWith("total;dur=")
+                .contains("JwtAuthorizationFilter;dur=")
+                .contains("TeamService.selectTeamMemberList;dur=")
+                .contains("TeamRepository.findById;dur=")
+                .contains("serialize;dur=");
+    }
+
+    @Test
+    public void 디버그_헤더_실패_권한없음() throws Exception {
+        Long teamId = saveTeam();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(RequestTraceFilter.DEBUG_TIMING_HEADER, "true");
+
+        ResponseEntity<String> response = restTemplate.exchange(URL, HttpMethod.GET, new HttpEntity<>(headers), String.class, teamId);
+
+        // NOTE 관리자가 아니면 Server-Timing 없이 일반 응답, 트레이스 조회 엔드포인트도 거부
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().containsKey(RequestTraceFilter.SERVER_TIMING_HEADER)).isFalse();
+        assertThat(restTemplate.getForEntity("/actuator/requesttraces", String.class).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+    }
+
+    @Test
+    public void 트레이스_기록() throws Exception {
+        Long teamId = saveTeam();
+
+        ResponseEntity<String> response = restTemplate.getForEntity(URL, String.class, teamId);
+
+        assertThat(response.getHeaders().containsKey(RequestTraceFilter.SERVER_TIMING_HEADER)).isFalse();
+
+        RequestTrace trace = requestTraceBuffer.recent().get(0);
+        assertThat(trace.getUri()).isEqualTo("/api/v1/team/" + teamId + "/team-member");
+        assertThat(trace.getStatus()).isEqualTo(200);
+
+        // NOTE 서비스 구간 안에 리포지토리 구간이 중첩되고 팀 조회 SQL 이 집계됨
+        TraceSpan service = trace.getRoot().getChildren().stream()
+                .filter(span -> span.getName().equals("TeamService.selectTeamMemberList"))
+                .findFirst()
+                .orElseThrow();
+        assertThat(service.getChildren().stream().map(TraceSpan::getName).collect(Collectors.toList())).contains("TeamRepository.findById");
+        assertThat(service.getSqlCount()).isGreaterThanOrEqualTo(1);
+        assertThat(trace.render()).startsWith("GET /api/v1/team/" + teamId + "/team-member");
+    }
+
+    private Long saveTeam() {
+        Team team = Team.builder()
+                .teamName("트레이스 테스트")
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("트레이스 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build();
+        return teamRepository.save(team).getId();
+    }
+}
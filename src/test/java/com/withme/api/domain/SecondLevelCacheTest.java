@@ -0,0 +1,80 @@
+package com.withme.api.domain;
+
+import com.withme.api.domain.skill.Skill;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.teamLike.TeamLikeRepository;
+import com.withme.api.domain.user.User;
+import com.withme.api.domain.user.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+@ActiveProfiles("local")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = "withme.hibernate.statistics=true")
+public class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamLikeRepository teamLikeRepository;
+
+    @DisplayName("다른 트랜잭션에서도 사용자, 스킬은 2차 캐시에서 조회")
+    @Test
+    void secondLevelCacheHit() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Assertions.assertThat(statistics.getSecondLevelCacheRegionNames())
+                .contains("skill", "user", "teamNotice", "teamSkill", "teamSkillIds");
+
+        // NOTE READ_WRITE 리전은 커밋된 뒤 시작한 트랜잭션부터 캐시를 읽으므로 트랜잭션을 나눠서 확인
+        User user = userRepository.save(User.builder()
+                .role("ROLE_USER")
+                .nickname("캐시테스터")
+                .userImage("default")
+                .joinRoot("withMe")
+                .build());
+        try {
+            transactionTemplate.executeWithoutResult(status -> entityManager.find(Skill.class, SkillName.java));
+
+            long userHits = statistics.getDomainDataRegionStatistics("user").getHitCount();
+            long skillHits = statistics.getDomainDataRegionStatistics("skill").getHitCount();
+            long statements = statistics.getPrepareStatementCount();
+
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.find(User.class, user.getId());
+                entityManager.find(Skill.class, SkillName.java);
+            });
+
+            Assertions.assertThat(statistics.getDomainDataRegionStatistics("user").getHitCount()).isEqualTo(userHits + 1);
+            Assertions.assertThat(statistics.getDomainDataRegionStatistics("skill").getHitCount()).isEqualTo(skillHits + 1);
+            Assertions.assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+
+            // NOTE 영향 테이블을 지정한 네이티브 쿼리는 다른 리전을 비우지 않음
+            transactionTemplate.executeWithoutResult(status -> teamLikeRepository.insertTeamLike(-1L, user.getId()));
+            Assertions.assertThat(entityManagerFactory.getCache().contains(User.class, user.getId())).isTrue();
+        } finally {
+            userRepository.deleteById(user.getId());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.withme.api.domain;
+
+import com.withme.api.controller.dto.TeamListCursor;
+import com.withme.api.domain.skill.Skill;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.team.TeamSearchCondition;
+import com.withme.api.domain.team.TeamSkillMatch;
+import com.withme.api.domain.team.TeamSortType;
+import com.withme.api.domain.teamSkill.TeamSkill;
+import org.assertj.core.api.Assertions;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@ActiveProfiles("local")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.withme.api.domain.TeamSearchRepositoryTest$SqlCapture")
+public class TeamSearchRepositoryTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    // NOTE bitand 는 방언마다 SQL 이 다르므로 형태만 확인 (H2 : bitand(skill_mask,?), MySQL : (skill_mask&?) / cast 대상 타입 bigint, signed)
+    private static final String ANY_SKILL_PREDICATE = "skill_mask[,&]\\?\\)<>0";
+    private static final String ALL_SKILL_PREDICATE = "skill_mask[,&]\\?\\)as\\w+\\)=\\?";
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * 실행된 SQL 보관 (테스트 검증용)
+     * */
+    public static class SqlCapture implements StatementInspector {
+
+        private static final long serialVersionUID = 1L;
+
+        private static final List<String> statements = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (statements) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (statements) {
+                statements.clear();
+            }
+        }
+
+        static List<String> get() {
+            synchronized (statements) {
+                return new ArrayList<>(statements);
+            }
+        }
+    }
+
+    static Stream<Arguments> conditions() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (TeamSkillMatch skillMatch : new TeamSkillMatch[]{null, TeamSkillMatch.ANY, TeamSkillMatch.ALL}) {
+            for (TeamCategory category : new TeamCategory[]{null, TeamCategory.STUDY}) {
+                for (TeamSortType sortType : TeamSortType.values()) {
+                    for (boolean desc : new boolean[]{true, false}) {
+                        arguments.add(Arguments.of(skillMatch, category, sortType, desc));
+                    }
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    @DisplayName("검색 조건 조합별 SQL 형태와 키셋 페이지 순회 테스트")
+    @ParameterizedTest(name = "skills={0}, category={1}, sort={2}, desc={3}")
+    @MethodSource("conditions")
+    @Transactional
+    void search(TeamSkillMatch skillMatch, TeamCategory category, TeamSortType sortType, boolean desc) {
+        List<Team> saved = saveTeams();
+        long skillMask = skillMatch == null ? 0L : SkillName.toBitmask(List.of(SkillName.java, SkillName.spring));
+
+        // NOTE 조건에 맞는 팀을 정렬 기준대로 끝까지 순회 (PAGE_SIZE 건씩)
+        List<Team> visited = new ArrayList<>();
+        TeamListCursor cursor = null;
+        SqlCapture.clear();
+        for (int i = 0; i < 100; i++) {
+            List<Team> page = teamRepository.search(TeamSearchCondition.builder()
+                    .skillMask(skillMask)
+                    .skillMatch(skillMatch == null ? TeamSkillMatch.ANY : skillMatch)
+                    .category(category)
+                    .sortType(sortType)
+                    .desc(desc)
+                    .cursorValue(cursor == null ? null : cursor.getValue())
+                    .cursorId(cursor == null ? null : cursor.getId())
+                    .build(), PAGE_SIZE);
+            visited.addAll(page);
+            if (page.size() < PAGE_SIZE) break;
+            cursor = TeamListCursor.decode(TeamListCursor.of(sortType, page.get(PAGE_SIZE - 1)).encode(), sortType);
+        }
+
+        // NOTE 페이지마다 Team 단일 테이블 조회 1건 (스킬 조인, DISTINCT, 추가 조회 없음)
+        List<String> statements = SqlCapture.get();
+        Assertions.assertThat(statements).isNotEmpty().allSatisfy(sql -> {
+            String normalized = normalize(sql);
+            Assertions.assertThat(normalized).startsWith("select").contains("fromteam").contains("status=?");
+            Assertions.assertThat(normalized).doesNotContain("join").doesNotContain("distinct").doesNotContain("team_skill");
+            assertPredicate(normalized, Pattern.quote("team_category=?"), category != null);
+            assertPredicate(normalized, ANY_SKILL_PREDICATE, skillMatch == TeamSkillMatch.ANY);
+            assertPredicate(normalized, ALL_SKILL_PREDICATE, skillMatch == TeamSkillMatch.ALL);
+            String direction = desc ? "desc" : "asc";
+            Assertions.assertThat(normalized).contains("orderby" + column(sortType) + direction + ",team_idx" + direction);
+        });
+        Assertions.assertThat(normalize(statements.get(0))).doesNotContain("team_idx<?").doesNotContain("team_idx>?");
+        statements.subList(1, statements.size()).forEach(sql ->
+                Assertions.assertThat(normalize(sql)).contains("team_idx" + (desc ? "<" : ">") + "?"));
+
+        // NOTE 순회 결과는 중복/누락 없이 조건에 맞는 팀을 정렬 순서대로 모두 포함
+        List<Long> expected = saved.stream()
+                .filter(team -> category == null || team.getTeamCategory() == category)
+                .filter(team -> skillMask == 0L
+                        || (skillMatch == TeamSkillMatch.ALL ? (team.getSkillMask() & skillMask) == skillMask : (team.getSkillMask() & skillMask) != 0))
+                .map(Team::getId)
+                .collect(Collectors.toList());
+        List<Long> visitedIds = visited.stream().map(Team::getId).collect(Collectors.toList());
+        Assertions.assertThat(visitedIds).doesNotHaveDuplicates().containsAll(expected);
+        Assertions.assertThat(visited).isSortedAccordingTo(comparator(sortType, desc));
+        Assertions.assertThat(visited).allMatch(team -> team.getStatus() == Status.DISPLAYED);
+    }
+
+    private List<Team> saveTeams() {
+        Skill java = entityManager.find(Skill.class, SkillName.java);
+        Skill spring = entityManager.find(Skill.class, SkillName.spring);
+        Skill vue = entityManager.find(Skill.class, SkillName.vue);
+        List<List<Skill>> skillSets = List.of(List.of(java, spring), List.of(java), List.of(vue), List.of());
+
+        List<Team> saved = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Team team = Team.builder()
+                    .teamName("검색 테스트 " + i)
+                    .teamCategory(i % 2 == 0 ? TeamCategory.STUDY : TeamCategory.PROJECT)
+                    .teamDesc("검색 테스트입니다.")
+                    .status(i == 7 ? Status.HIDDEN : Status.DISPLAYED)
+                    .build();
+            skillSets.get(i % skillSets.size()).forEach(skill -> team.addTeamSkill(new TeamSkill(team, skill)));
+            saved.add(teamRepository.save(team));
+        }
+        entityManager.flush();
+
+        // NOTE 카운트 컬럼은 엔티티로 수정하지 않으므로 직접 반영 (같은 값이 있어야 id 순 정렬도 확인 가능)
+        for (Team team : saved) {
+            entityManager.createNativeQuery("UPDATE team SET view_count = :view_count, team_like_count = :team_like_count WHERE team_idx = :team_idx")
+                    .setParameter("view_count", (int) (team.getId() % 3))
+                    .setParameter("team_like_count", (int) (team.getId() % 2))
+                    .setParameter("team_idx", team.getId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+        return saved.stream()
+                .filter(team -> team.getStatus() == Status.DISPLAYED)
+                .collect(Collectors.toList());
+    }
+
+    private static void assertPredicate(String sql, String predicate, boolean expected) {
+        if (expected) {
+            Assertions.assertThat(sql).containsPattern(predicate);
+        } else {
+            Assertions.assertThat(sql).doesNotContainPattern(predicate);
+        }
+    }
+
+    // NOTE 공백과 테이블 별칭을 제거해 비교 (team0_.status = ? -> status=?)
+    private static String normalize(String sql) {
+        return sql.toLowerCase().replaceAll("\\w+_\\.", "").replaceAll("\\s+", "");
+    }
+
+    private static String column(TeamSortType sortType) {
+        switch (sortType) {
+            case VIEWS:
+                return "view_count";
+            case LIKES:
+                return "team_like_count";
+            default:
+                return "created_time";
+        }
+    }
+
+    private static Comparator<Team> comparator(TeamSortType sortType, boolean desc) {
+        Comparator<Team> comparator;
+        switch (sortType) {
+            case VIEWS:
+                comparator = Comparator.comparing(Team::getViewCount);
+                break;
+            case LIKES:
+                comparator = Comparator.comparing(Team::getTeamLikeCount);
+                break;
+            default:
+                comparator = Comparator.comparing(Team::getCreatedTime);
+        }
+        comparator = comparator.thenComparing(Team::getId);
+        return desc ? comparator.reversed() : comparator;
+    }
+}
@@ -1,9 +1,12 @@
 package com.withme.api.domain;
 
+import com.withme.api.domain.skill.Skill;
+import com.withme.api.domain.skill.SkillName;
 import com.withme.api.domain.team.Status;
 import com.withme.api.domain.team.Team;
 import com.withme.api.domain.team.TeamCategory;
 import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.teamSkill.TeamSkill;
 import com.withme.api.domain.teamUser.MemberType;
 import com.withme.api.domain.teamUser.TeamUser;
 import com.withme.api.domain.teamUser.TeamUserRepository;
@@ -19,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @ActiveProfiles("local")
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -122,4 +126,25 @@ class TeamTest {
         assertThat(team2.IsUserTeamLeader(user1.getId())).isFalse();
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void skillMask() {
+        Team team = Team.builder()
+                .teamName("스킬 비트마스크")
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("스킬 비트마스크 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build();
+        TeamSkill java = new TeamSkill(team, new Skill(SkillName.java));
+        TeamSkill spring = new TeamSkill(team, new Skill(SkillName.spring));
+
+        team.addTeamSkill(java);
+        team.addTeamSkill(spring);
+        assertThat(team.getSkillMask()).isEqualTo(SkillName.java.getMask() | SkillName.spring.getMask());
+
+        // NOTE 스킬 삭제 시 비트마스크도 함께 갱신
+        team.removeTeamSkill(java);
+        assertThat(team.getSkillMask()).isEqualTo(SkillName.spring.getMask());
+        assertThatThrownBy(() -> team.getTeamSkills().add(java)).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
@@ -0,0 +1,38 @@
+package com.withme.api.login;
+
+import com.withme.api.config.auth.PrincipalDetails;
+import com.withme.api.config.auth.PrincipalDetailsCache;
+import com.withme.api.domain.user.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PrincipalDetailsCacheTest {
+
+    @Test
+    @DisplayName("인증 정보 캐시 조회, 제거 테스트")
+    public void getAndEvict() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PrincipalDetailsCache principalDetailsCache = new PrincipalDetailsCache(100, 60, meterRegistry);
+        AtomicInteger loadCount = new AtomicInteger();
+        PrincipalDetails principalDetails = new PrincipalDetails(User.builder().nickname("캐시").role("ROLE_USER").build());
+
+        principalDetailsCache.get(1L, id -> { loadCount.incrementAndGet(); return principalDetails; });
+        principalDetailsCache.get(1L, id -> { loadCount.incrementAndGet(); return principalDetails; });
+        Assertions.assertThat(loadCount.get()).isEqualTo(1);
+
+        // NOTE 제거 후에는 다시 조회
+        principalDetailsCache.evict(1L);
+        principalDetailsCache.get(1L, id -> { loadCount.incrementAndGet(); return principalDetails; });
+        Assertions.assertThat(loadCount.get()).isEqualTo(2);
+
+        // NOTE 조회 결과가 없으면 캐시하지 않음
+        Assertions.assertThat(principalDetailsCache.get(2L, id -> null)).isNull();
+
+        Assertions.assertThat(meterRegistry.get("cache.gets").tag("cache", "principalDetails").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+}
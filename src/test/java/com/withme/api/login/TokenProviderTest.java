@@ -0,0 +1,74 @@
+package com.withme.api.login;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.withme.api.config.auth.PrincipalDetailsCache;
+import com.withme.api.domain.user.User;
+import com.withme.api.domain.user.UserRepository;
+import com.withme.api.jwt.TokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.Optional;
+
+public class TokenProviderTest {
+
+    private static final String SECRET = "IpxOjOXlMrNeWHPIKviXTU9V/2XO2F+9jAYWBIyPpRyz2OUtgrSa5TzG/8/K5MNehpI6AfSN+ASrTfI9M8M0zQ==";
+
+    private TokenProvider tokenProvider;
+
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findById(1L))
+                .thenReturn(Optional.of(User.builder().nickname("토큰").role("ROLE_USER").build()));
+
+        tokenProvider = new TokenProvider(SECRET, 3600, userRepository, new ObjectMapper()
+                , new PrincipalDetailsCache(100, 60, new SimpleMeterRegistry()));
+        tokenProvider.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("토큰 검증 및 SecurityContext 의 body 재사용 테스트")
+    public void parseOnceAndReuseClaims() {
+        String token = "Bearer " + Jwts.builder()
+                .setSubject("토큰")
+                .claim("id", 1L)
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS512)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .compact();
+
+        Claims claims = tokenProvider.parseClaims(token);
+        Assertions.assertThat(claims).isNotNull();
+        Assertions.assertThat(tokenProvider.parseClaims(token + "x")).isNull();
+        Assertions.assertThat(tokenProvider.parseClaims("No Token")).isNull();
+
+        Authentication authentication = tokenProvider.getAuthentication(token, claims);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        // NOTE 같은 토큰이면 SecurityContext 의 body 사용, 다른 토큰이면 다시 검증
+        Assertions.assertThat(tokenProvider.getUserIdFromToken(token)).isEqualTo(1L);
+        Assertions.assertThat(authentication.getDetails()).isSameAs(claims);
+        Assertions.assertThatThrownBy(() -> tokenProvider.getUserIdFromToken(token + "x"))
+                .isInstanceOf(io.jsonwebtoken.JwtException.class);
+    }
+}
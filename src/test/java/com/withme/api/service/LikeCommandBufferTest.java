@@ -0,0 +1,94 @@
+package com.withme.api.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LikeCommandBufferTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Test
+    @DisplayName("좋아요 토글 동시 요청 병합 테스트")
+    public void coalesceConcurrentToggles() throws Exception {
+        LikeCommandBuffer buffer = new LikeCommandBuffer(null, null, null, true, 100_000, 60);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            long threadIndex = t;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    // NOTE 같은 사용자가 같은 팀을 반복 토글 (짝수 번이면 원래 상태)
+                    buffer.offerTeamLike(1L, 1L, null, () -> false);
+                    // NOTE 서로 다른 사용자가 같은 팀에 좋아요 (중복 요청 포함)
+                    buffer.offerTeamLike(2L, threadIndex * 1000 + i, true, () -> false);
+                    buffer.offerTeamLike(2L, threadIndex * 1000 + i, true, () -> false);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        Assertions.assertThat(buffer.getTeamLike(1L, 1L)).isFalse();
+        Assertions.assertThat(buffer.getPendingTeamLikeCount(1L)).isEqualTo(0);
+        Assertions.assertThat(buffer.getPendingTeamLikeCount(2L)).isEqualTo(THREAD_COUNT * 1000);
+        Assertions.assertThat(buffer.size()).isEqualTo(1 + THREAD_COUNT * 1000);
+    }
+
+    @Test
+    @DisplayName("좋아요 버퍼 용량 초과 테스트")
+    public void rejectWhenFull() {
+        LikeCommandBuffer buffer = new LikeCommandBuffer(null, null, null, true, 2, 60);
+
+        Assertions.assertThat(buffer.offerTeamLike(1L, 1L, true, () -> false)).isTrue();
+        Assertions.assertThat(buffer.offerCommentLike(1L, 10L, 1L, null, () -> true)).isFalse();
+
+        // NOTE 새 대상은 거절 (호출한 쪽에서 바로 DB 반영), 이미 대기 중인 대상은 계속 받음
+        Assertions.assertThat(buffer.offerTeamLike(1L, 2L, true, () -> false)).isNull();
+        Assertions.assertThat(buffer.offerTeamLike(1L, 1L, false, () -> false)).isFalse();
+        Assertions.assertThat(buffer.getPendingTeamLikeCount(1L)).isEqualTo(0);
+        Assertions.assertThat(buffer.getPendingCommentLikeCount(1L, 10L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("좋아요 여부/개수 캐시 테스트")
+    public void reusePersistedState() {
+        LikeCommandBuffer buffer = new LikeCommandBuffer(null, null, null, true, 100, 60);
+        AtomicInteger loads = new AtomicInteger();
+
+        // NOTE 같은 대상의 개수는 한 번만 조회
+        Assertions.assertThat(buffer.getPersistedTeamLikeCount(1L, () -> loads.incrementAndGet() + 2)).isEqualTo(3);
+        Assertions.assertThat(buffer.getPersistedTeamLikeCount(1L, () -> loads.incrementAndGet() + 2)).isEqualTo(3);
+        Assertions.assertThat(loads.get()).isEqualTo(1);
+
+        // NOTE 토글이 합쳐져 반영할 것이 없어도 flush 후에는 캐시된 상태로 다시 받음
+        Assertions.assertThat(buffer.offerTeamLike(1L, 1L, null, () -> true)).isFalse();
+        Assertions.assertThat(buffer.offerTeamLike(1L, 1L, null, () -> true)).isTrue();
+        buffer.flush();
+        Assertions.assertThat(buffer.size()).isEqualTo(0);
+        Assertions.assertThat(buffer.getPendingTeamLikeCount(1L)).isEqualTo(0);
+        Assertions.assertThat(buffer.offerTeamLike(1L, 1L, null, () -> {
+            throw new IllegalStateException("DB 조회");
+        })).isFalse();
+    }
+
+    @Test
+    @DisplayName("좋아요 버퍼 미사용 테스트")
+    public void disabledBuffer() {
+        LikeCommandBuffer buffer = new LikeCommandBuffer(null, null, null, false, 100, 60);
+
+        Assertions.assertThat(buffer.offerTeamLike(1L, 1L, true, () -> false)).isNull();
+        Assertions.assertThat(buffer.getTeamLike(1L, 1L)).isNull();
+    }
+}
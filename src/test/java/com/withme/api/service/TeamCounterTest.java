@@ -0,0 +1,102 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.teamComment.TeamComment;
+import com.withme.api.domain.teamComment.TeamCommentRepository;
+import com.withme.api.domain.user.User;
+import com.withme.api.domain.user.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+@ActiveProfiles("local")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class TeamCounterTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamCommentRepository teamCommentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TeamCounterReconciler teamCounterReconciler;
+
+    @Autowired
+    private TeamViewCountBuffer teamViewCountBuffer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    @DisplayName("팀 댓글 카운트 증감 및 보정 테스트")
+    public void updateAndReconcileCommentCount() {
+        Team team = teamRepository.save(Team.builder()
+                .teamName("카운트 테스트")
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("카운트 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build());
+        User user = userRepository.save(User.builder()
+                .role("ROLE_USER")
+                .nickname("카운트")
+                .userImage("default")
+                .joinRoot("withMe")
+                .build());
+        teamCommentRepository.save(new TeamComment("댓글", user, team));
+        teamCommentRepository.save(new TeamComment("댓글", user, team));
+
+        teamRepository.updateCommentCount(team.getId(), 2);
+        Assertions.assertThat(reload(team).getCommentCount()).isEqualTo(2);
+
+        // NOTE 카운트가 어긋난 경우 실제 댓글 수로 보정
+        teamRepository.updateCommentCount(team.getId(), 5);
+        teamCounterReconciler.reconcile();
+        Assertions.assertThat(reload(team).getCommentCount()).isEqualTo(2);
+        Assertions.assertThat(reload(team).getTeamLikeCount()).isEqualTo(0);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("팀 조회수 버퍼 반영 테스트")
+    public void flushViewCount() {
+        Team team = teamRepository.save(Team.builder()
+                .teamName("조회수 테스트")
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("조회수 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build());
+        entityManager.flush();
+
+        for (int i = 0; i < 3; i++) teamViewCountBuffer.increase(team.getId());
+        Assertions.assertThat(teamViewCountBuffer.getPending(team.getId())).isEqualTo(3);
+
+        // NOTE flush 후에는 대기 조회수가 DB로 옮겨짐
+        teamViewCountBuffer.flush();
+        Assertions.assertThat(teamViewCountBuffer.getPending(team.getId())).isEqualTo(0);
+        Assertions.assertThat(reload(team).getViewCount()).isEqualTo(3);
+    }
+
+    private Team reload(Team team) {
+        entityManager.flush();
+        entityManager.clear();
+        return teamRepository.findById(team.getId()).orElseThrow();
+    }
+}
@@ -0,0 +1,69 @@
+package com.withme.api.service;
+
+import com.withme.api.controller.dto.TeamDetailResponseDto;
+import com.withme.api.domain.team.TeamCountFlushedEvent;
+import com.withme.api.domain.team.TeamDetailChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class TeamDetailCacheTest {
+
+    @Test
+    @DisplayName("팀 상세 스냅샷 캐시, 변경 시 버전 증가 테스트")
+    public void invalidateOnChange() {
+        TeamDetailCache cache = new TeamDetailCache(100, 600, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> load(loads));
+        cache.get(1L, () -> load(loads));
+        Assertions.assertThat(loads.get()).isEqualTo(1);
+
+        // NOTE 같은 버전이면 같은 ETag, 사용자별로는 다른 ETag
+        String eTag = cache.getETag(1L, 10L, List.of(2L, 3L));
+        Assertions.assertThat(cache.getETag(1L, 10L, List.of(2L, 3L))).isEqualTo(eTag);
+        Assertions.assertThat(cache.getETag(1L, 20L, List.of(2L, 3L))).isNotEqualTo(eTag);
+        Assertions.assertThat(TeamDetailCache.matches("\"other\", W/" + eTag, eTag)).isTrue();
+        Assertions.assertThat(TeamDetailCache.matches("\"other\"", eTag)).isFalse();
+        Assertions.assertThat(TeamDetailCache.matches("*", eTag)).isFalse();
+        // NOTE 추천 팀이 바뀌면 다른 ETag
+        Assertions.assertThat(cache.getETag(1L, 10L, List.of(2L, 4L))).isNotEqualTo(eTag);
+
+        // NOTE 댓글/좋아요 변경 시 버전이 바뀌고 다시 만듦
+        cache.onTeamDetailChanged(new TeamDetailChangedEvent(1L));
+        Assertions.assertThat(cache.getETag(1L, 10L, List.of(2L, 3L))).isNotEqualTo(eTag);
+        cache.get(1L, () -> load(loads));
+        Assertions.assertThat(loads.get()).isEqualTo(2);
+
+        // NOTE 카운트 반영 시 버전은 그대로 두고 다시 만듦
+        String flushedETag = cache.getETag(1L, 10L, List.of(2L, 3L));
+        cache.onTeamCountFlushed(new TeamCountFlushedEvent(Set.of(1L)));
+        Assertions.assertThat(cache.getETag(1L, 10L, List.of(2L, 3L))).isEqualTo(flushedETag);
+        cache.get(1L, () -> load(loads));
+        Assertions.assertThat(loads.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 만드는 도중 변경되면 캐시하지 않음")
+    public void skipStaleSnapshot() {
+        TeamDetailCache cache = new TeamDetailCache(100, 600, new SimpleMeterRegistry());
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return load(loads);
+        });
+        cache.get(1L, () -> load(loads));
+        Assertions.assertThat(loads.get()).isEqualTo(2);
+    }
+
+    private static TeamDetailResponseDto load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new TeamDetailResponseDto();
+    }
+}
@@ -0,0 +1,187 @@
+package com.withme.api.service;
+
+import com.withme.api.controller.dto.TeamCommentResponseDto;
+import com.withme.api.controller.dto.TeamDetailResponseDto;
+import com.withme.api.domain.commentLike.CommentLike;
+import com.withme.api.domain.commentLike.CommentLikeRepository;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.teamComment.TeamComment;
+import com.withme.api.domain.teamComment.TeamCommentRepository;
+import com.withme.api.domain.user.User;
+import com.withme.api.domain.user.UserRepository;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+@ActiveProfiles("local")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+        , properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class TeamDetailTest {
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamCommentRepository teamCommentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private TeamDetailCache teamDetailCache;
+
+    @Autowired
+    private TeamViewCountBuffer teamViewCountBuffer;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @Transactional
+    @DisplayName("팀 상세 대댓글 조회 쿼리 수 테스트")
+    public void getTeamAndCommentStatementCount() {
+        Team team = teamRepository.save(Team.builder()
+                .teamName("대댓글 테스트")
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("대댓글 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build());
+        User user = userRepository.save(User.builder()
+                .role("ROLE_USER")
+                .nickname("대댓글")
+                .userImage("default")
+                .joinRoot("withMe")
+                .build());
+        for (int i = 0; i < 5; i++) {
+            TeamComment parent = teamCommentRepository.save(new TeamComment("댓글 " + i, user, team));
+            for (int j = 0; j < 2; j++) {
+                TeamComment child = new TeamComment("대댓글 " + j, user, team);
+                child.setParent(parent);
+                teamCommentRepository.save(child);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Team resultTeam = teamRepository.findById(team.getId()).orElseThrow();
+        List<TeamComment> rootComments = teamCommentRepository.findTeamCommentByTeamAndParentIsNullOrderByIdDesc(resultTeam)
+                .orElseThrow();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<TeamCommentResponseDto> teamComments = teamService.getTeamAndComment(team.getId(), rootComments, user.getId());
+
+        // NOTE 부모 댓글 수와 관계없이 대댓글 id 조회 1건 + 대댓글 조회 1건 + 좋아요 여부 조회 1건
+        Assertions.assertThat(teamComments).hasSize(5);
+        Assertions.assertThat(teamComments).allMatch(v -> v.getCommentChildren().size() == 2);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("팀 댓글 페이지, 대댓글 미리보기 테스트")
+    public void teamCommentPage() {
+        Team team = teamRepository.save(Team.builder()
+                .teamName("댓글 페이지 테스트")
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("댓글 페이지 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build());
+        User user = userRepository.save(User.builder()
+                .role("ROLE_USER")
+                .nickname("댓글페이지")
+                .userImage("default")
+                .joinRoot("withMe")
+                .build());
+        TeamComment parent = null;
+        for (int i = 0; i < 5; i++) {
+            parent = teamCommentRepository.save(new TeamComment("댓글 " + i, user, team));
+        }
+        for (int i = 0; i < 7; i++) {
+            TeamComment child = new TeamComment("대댓글 " + i, user, team);
+            child.setParent(parent);
+            teamCommentRepository.save(child);
+        }
+        commentLikeRepository.save(new CommentLike(team, user, parent));
+        entityManager.flush();
+        entityManager.clear();
+
+        // NOTE 커서를 따라가면 최신순으로 중복 없이 전체 댓글 조회
+        List<Long> visited = new ArrayList<>();
+        Long cursor = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            List<TeamComment> page = teamCommentRepository.findRootCommentPage(team.getId(), cursor, PageRequest.of(0, 2));
+            if (page.isEmpty()) break;
+            page.forEach(v -> visited.add(v.getId()));
+            cursor = page.get(page.size() - 1).getId();
+        }
+        Assertions.assertThat(visited).hasSize(5).isSortedAccordingTo(Comparator.reverseOrder());
+
+        // NOTE 대댓글은 미리보기 수만큼만 포함하고 다음 커서 제공
+        List<TeamCommentResponseDto> teamComments = teamService.getTeamAndComment(team.getId()
+                , teamCommentRepository.findRootCommentPage(team.getId(), Long.MAX_VALUE, PageRequest.of(0, 1)), user.getId());
+        TeamCommentResponseDto latest = teamComments.get(0);
+        Assertions.assertThat(latest.getCommentLike()).isTrue();
+        Assertions.assertThat(latest.getCommentChildren()).noneMatch(v -> v.getCommentLike());
+        Assertions.assertThat(latest.getCommentChildren()).hasSize(5);
+        Assertions.assertThat(latest.getCommentChildrenNextCursor()).isEqualTo(latest.getCommentChildren().get(4).getId());
+
+        List<TeamComment> rest = teamCommentRepository.findChildCommentPage(team.getId(), latest.getId(), latest.getCommentChildrenNextCursor(), PageRequest.of(0, 20));
+        Assertions.assertThat(rest).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("팀 상세 조건부 조회, 캐시된 공개 팀만 304 테스트")
+    public void teamDetailNotModified() {
+        // NOTE 없는 팀 id (DB 조회 없이 캐시 상태만으로 판단)
+        Long teamId = Long.MAX_VALUE - 1;
+        String eTag = teamDetailCache.getETag(teamId, null, List.of());
+        long pending = teamViewCountBuffer.getPending(teamId);
+
+        // NOTE 스냅샷이 없으면 ETag 가 같아도 일반 조회로 넘기고, * 는 항상 불일치
+        Assertions.assertThat(teamService.isTeamDetailNotModified(teamId, eTag, eTag)).isFalse();
+        Assertions.assertThat(teamService.isTeamDetailNotModified(teamId, eTag, "*")).isFalse();
+
+        TeamDetailResponseDto hidden = new TeamDetailResponseDto();
+        hidden.setStatus(Status.HIDDEN);
+        teamDetailCache.get(teamId, () -> hidden);
+        Assertions.assertThat(teamService.isTeamDetailNotModified(teamId, eTag, eTag)).isFalse();
+        Assertions.assertThat(teamViewCountBuffer.getPending(teamId)).isEqualTo(pending);
+
+        teamDetailCache.invalidate(teamId);
+        String displayedETag = teamDetailCache.getETag(teamId, null, List.of());
+        TeamDetailResponseDto displayed = new TeamDetailResponseDto();
+        displayed.setStatus(Status.DISPLAYED);
+        teamDetailCache.get(teamId, () -> displayed);
+        Assertions.assertThat(teamService.isTeamDetailNotModified(teamId, displayedETag, displayedETag)).isTrue();
+        Assertions.assertThat(teamViewCountBuffer.getPending(teamId)).isEqualTo(pending + 1);
+
+        teamDetailCache.invalidate(teamId);
+    }
+}
@@ -1,10 +1,13 @@
 package com.withme.api.service;
 
+import com.withme.api.domain.commentLike.CommentLikeRepository;
+import com.withme.api.domain.team.Status;
 import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
 import com.withme.api.domain.team.TeamRepository;
-import com.withme.api.domain.teamLike.TeamLike;
+import com.withme.api.domain.teamComment.TeamComment;
+import com.withme.api.domain.teamComment.TeamCommentRepository;
 import com.withme.api.domain.teamLike.TeamLikeRepository;
-import com.withme.api.domain.teamSkill.TeamSkillRepository;
 import com.withme.api.domain.user.User;
 import com.withme.api.domain.user.UserRepository;
 import org.assertj.core.api.Assertions;
@@ -19,46 +22,112 @@ import org.springframework.transaction.annotation.Transactional;
 
 @ActiveProfiles("local")
 @ExtendWith(SpringExtension.class)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+// NOTE 테스트 트랜잭션 밖에서 주기적으로 flush 되지 않도록 반영 주기를 길게 설정
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+        , properties = "withme.like.async.flush-interval-ms=3600000")
 public class TeamLikeTest {
 
     @Autowired
     private TeamLikeRepository teamLikeRepository;
 
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private TeamCommentRepository teamCommentRepository;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private LikeCommandBuffer likeCommandBuffer;
+
     @Transactional
     @DisplayName("팀 좋아요 등록, 취소 기능")
     @Test
     void 팀_좋아요_기능() {
-        String result = "";
-        Long teamId = 70L;
-        Long userId = 1L;
-
-        // NOTE Entity 조회
-        Team team = teamRepository.findById(teamId)
-                .orElseThrow(() -> new NullPointerException("not found team"));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NullPointerException("not found user"));
-
-        // NOTE 사용자가 해당 팀에 좋아요를 이미 눌렀는지 확인
-        TeamLike teamLike = teamLikeRepository.countTeamLikesByTeamAndUser(teamId, userId)
-                .orElseGet(() -> new TeamLike());
-
-        // NOTE 이미 좋아요 있음 (좋아요 취소)
-        if (teamLike.getId() != null){
-            teamLikeRepository.deleteById(teamLike.getId());
-            result = "cancel";
-        // NOTE 좋아요 없음 (좋아요 등록)
-        }else {
-            teamLikeRepository.save(new TeamLike(team, user));
-            result = "register";
-        }
-
-        Assertions.assertThat(result).isEqualTo("register");
+        Team team = saveTeam("좋아요 테스트");
+        User user = saveUser("좋아요테스터");
+
+        // NOTE 중복 등록은 0 건 (유니크 제약 위반 없음)
+        Assertions.assertThat(teamLikeRepository.insertTeamLike(team.getId(), user.getId())).isEqualTo(1);
+        Assertions.assertThat(teamLikeRepository.insertTeamLike(team.getId(), user.getId())).isEqualTo(0);
+        Assertions.assertThat(teamLikeRepository.existsByTeamIdAndUserId(team.getId(), user.getId())).isTrue();
+
+        // NOTE 없는 팀은 등록되지 않음
+        Assertions.assertThat(teamLikeRepository.insertTeamLike(-1L, user.getId())).isEqualTo(0);
+
+        // NOTE 중복 취소도 0 건
+        Assertions.assertThat(teamLikeRepository.deleteTeamLike(team.getId(), user.getId())).isEqualTo(1);
+        Assertions.assertThat(teamLikeRepository.deleteTeamLike(team.getId(), user.getId())).isEqualTo(0);
+        Assertions.assertThat(teamLikeRepository.existsByTeamIdAndUserId(team.getId(), user.getId())).isFalse();
+    }
+
+    @Transactional
+    @DisplayName("댓글 좋아요 등록, 취소 기능")
+    @Test
+    void 댓글_좋아요_기능() {
+        Team team = saveTeam("댓글 좋아요 테스트");
+        Team otherTeam = saveTeam("다른 팀");
+        User user = saveUser("댓글좋아요테스터");
+
+        TeamComment comment = new TeamComment();
+        comment.setContent("댓글");
+        comment.setTeam(team);
+        comment.setUser(user);
+        teamCommentRepository.saveAndFlush(comment);
+
+        Assertions.assertThat(commentLikeRepository.insertCommentLike(team.getId(), user.getId(), comment.getId())).isEqualTo(1);
+        Assertions.assertThat(commentLikeRepository.insertCommentLike(team.getId(), user.getId(), comment.getId())).isEqualTo(0);
+
+        // NOTE 다른 팀의 댓글로는 등록되지 않음
+        Assertions.assertThat(commentLikeRepository.insertCommentLike(otherTeam.getId(), user.getId(), comment.getId())).isEqualTo(0);
+
+        Assertions.assertThat(commentLikeRepository.deleteCommentLike(team.getId(), user.getId(), comment.getId())).isEqualTo(1);
+        Assertions.assertThat(commentLikeRepository.deleteCommentLike(team.getId(), user.getId(), comment.getId())).isEqualTo(0);
+    }
+
+    @Transactional
+    @DisplayName("좋아요 버퍼 배치 반영")
+    @Test
+    void 좋아요_버퍼_반영() {
+        Team team = saveTeam("좋아요 버퍼 테스트");
+        User user = saveUser("버퍼테스터");
+        User otherUser = saveUser("버퍼테스터2");
+
+        likeCommandBuffer.offerTeamLike(team.getId(), user.getId(), true, () -> false);
+        likeCommandBuffer.offerTeamLike(team.getId(), otherUser.getId(), null, () -> false);
+        // NOTE 반영 전에는 DB에 없고 버퍼에서만 조회
+        Assertions.assertThat(teamLikeRepository.existsByTeamIdAndUserId(team.getId(), user.getId())).isFalse();
+        Assertions.assertThat(likeCommandBuffer.getPendingTeamLikeCount(team.getId())).isEqualTo(2);
+
+        likeCommandBuffer.flush();
+
+        Assertions.assertThat(teamLikeRepository.existsByTeamIdAndUserId(team.getId(), user.getId())).isTrue();
+        Assertions.assertThat(teamLikeRepository.existsByTeamIdAndUserId(team.getId(), otherUser.getId())).isTrue();
+        Assertions.assertThat(teamRepository.findTeamLikeCountById(team.getId())).contains(2);
+        Assertions.assertThat(likeCommandBuffer.getPendingTeamLikeCount(team.getId())).isEqualTo(0);
+        Assertions.assertThat(likeCommandBuffer.getTeamLike(team.getId(), user.getId())).isNull();
+    }
+
+    private Team saveTeam(String teamName) {
+        return teamRepository.saveAndFlush(Team.builder()
+                .teamName(teamName)
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("좋아요 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build());
+    }
+
+    private User saveUser(String nickname) {
+        return userRepository.saveAndFlush(User.builder()
+                .role("ROLE_USER")
+                .nickname(nickname)
+                .userImage("default")
+                .joinRoot("withMe")
+                .build());
     }
 }
@@ -1,6 +1,9 @@
 package com.withme.api.service;
 
+import com.withme.api.config.SqlStatementCounter;
 import com.withme.api.controller.dto.CreateTeamRequestDto;
+import com.withme.api.controller.dto.TeamListCursor;
+import com.withme.api.controller.dto.TeamListPageResponseDto;
 import com.withme.api.controller.dto.TeamListResponseMapping;
 import com.withme.api.controller.dto.TeamSearchDto;
 import com.withme.api.domain.skill.Skill;
@@ -9,13 +12,18 @@ import com.withme.api.domain.team.Status;
 import com.withme.api.domain.team.Team;
 import com.withme.api.domain.team.TeamCategory;
 import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.team.TeamSearchCondition;
+import com.withme.api.domain.team.TeamSortType;
 import com.withme.api.domain.teamSkill.TeamSkill;
 import com.withme.api.domain.teamSkill.TeamSkillRepository;
 import com.withme.api.domain.teamUser.MemberType;
 import com.withme.api.domain.teamUser.TeamUser;
 import com.withme.api.domain.user.User;
 import com.withme.api.domain.user.UserRepository;
+import com.withme.api.support.MaxSqlStatements;
 import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,14 +33,20 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @ActiveProfiles("local")
 @ExtendWith(SpringExtension.class)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT
+        , properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class TeamListTest {
+    @Autowired
+    private TeamService teamService;
     @Autowired
     private TeamSkillRepository teamSkillRepository;
     @Autowired
@@ -41,6 +55,12 @@ public class TeamListTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     @Transactional
     @DisplayName("팀 리스트 스킬 조회 테스트")
     @Test
@@ -48,7 +68,7 @@ public class TeamListTest {
         // NOTE 검색 DTO 가져오기
         TeamSearchDto teamSearchDto = getTeamSearchDto();
         // NOTE 검색 받은 SKILL을 Skill List에 저장
-        List<Skill> skillList = teamSearchDto.toSkillList();
+        List<Skill> skillList = teamSearchDto.toSkillList(skillCatalog);
 
         List<TeamListResponseMapping> teamList = new ArrayList<>();
 
@@ -82,6 +102,185 @@ public class TeamListTest {
         Assertions.assertThat(equalsSkillName).containsAll(skillNameList);
     }
 
+    @Transactional
+    @DisplayName("팀 스킬 비트마스크 검색 테스트")
+    @Test
+    void findTeamListBySkillMask() {
+        // NOTE 팀 스킬이 참조할 스킬 등록
+        for (SkillName skillName : List.of(SkillName.java, SkillName.spring, SkillName.vue)) {
+            if (entityManager.find(Skill.class, skillName) == null) entityManager.persist(new Skill(skillName));
+        }
+
+        Team javaTeam = Team.builder()
+                .teamName("자바 스터디")
+                .teamCategory(TeamCategory.STUDY)
+                .teamDesc("자바 스터디입니다.")
+                .status(Status.DISPLAYED)
+                .build();
+        javaTeam.addTeamSkill(new TeamSkill(javaTeam, entityManager.find(Skill.class, SkillName.java)));
+        javaTeam.addTeamSkill(new TeamSkill(javaTeam, entityManager.find(Skill.class, SkillName.spring)));
+
+        Team vueTeam = Team.builder()
+                .teamName("뷰 프로젝트")
+                .teamCategory(TeamCategory.PROJECT)
+                .teamDesc("뷰 프로젝트입니다.")
+                .status(Status.DISPLAYED)
+                .build();
+        vueTeam.addTeamSkill(new TeamSkill(vueTeam, entityManager.find(Skill.class, SkillName.vue)));
+
+        teamRepository.save(javaTeam);
+        teamRepository.save(vueTeam);
+
+        Assertions.assertThat(javaTeam.getSkillMask()).isEqualTo(SkillName.java.getMask() | SkillName.spring.getMask());
+
+        long skillMask = SkillName.toBitmask(List.of(SkillName.spring, SkillName.docker));
+        List<Team> teamList = teamRepository.search(TeamSearchCondition.builder().skillMask(skillMask).build(), 20);
+
+        Assertions.assertThat(teamList).contains(javaTeam).doesNotContain(vueTeam);
+    }
+
+    @Test
+    @Transactional
+    public void findTeamListByCursor() {
+        List<Team> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(teamRepository.save(Team.builder()
+                    .teamName("커서 테스트 " + i)
+                    .teamCategory(TeamCategory.STUDY)
+                    .teamDesc("커서 테스트입니다.")
+                    .status(Status.DISPLAYED)
+                    .build()));
+        }
+
+        // NOTE 영속성 컨텍스트의 시간값이 아닌 DB에 저장된 값으로 커서를 만들기 위해 초기화
+        entityManager.flush();
+        entityManager.clear();
+
+        // NOTE 2건씩 끝까지 조회하면 중복/누락 없이 전체 팀을 순회해야 함
+        List<Long> visited = new ArrayList<>();
+        TeamListCursor cursor = null;
+        for (int i = 0; i < 100; i++) {
+            List<Team> page = teamRepository.search(TeamSearchCondition.builder()
+                    .cursorValue(cursor == null ? null : cursor.getValue())
+                    .cursorId(cursor == null ? null : cursor.getId())
+                    .build(), 2);
+            if (page.isEmpty()) break;
+            page.forEach(team -> visited.add(team.getId()));
+            Team last = page.get(page.size() - 1);
+            cursor = TeamListCursor.decode(TeamListCursor.of(TeamSortType.CREATED, last).encode(), TeamSortType.CREATED);
+        }
+
+        Assertions.assertThat(visited).doesNotHaveDuplicates();
+        Assertions.assertThat(visited).containsAll(saved.stream().map(Team::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("팀 리스트 조회 쿼리 수 테스트")
+    @MaxSqlStatements(1)
+    public void getTeamListStatementCount() throws Exception {
+        for (SkillName skillName : List.of(SkillName.java, SkillName.spring, SkillName.vue)) {
+            if (entityManager.find(Skill.class, skillName) == null) entityManager.persist(new Skill(skillName));
+        }
+        for (int i = 0; i < 10; i++) {
+            Team team = Team.builder()
+                    .teamName("쿼리 수 테스트 " + i)
+                    .teamCategory(TeamCategory.STUDY)
+                    .teamDesc("쿼리 수 테스트입니다.")
+                    .status(Status.DISPLAYED)
+                    .build();
+            team.addTeamSkill(new TeamSkill(team, entityManager.find(Skill.class, SkillName.java)));
+            team.addTeamSkill(new TeamSkill(team, entityManager.find(Skill.class, i % 2 == 0 ? SkillName.spring : SkillName.vue)));
+            teamRepository.save(team);
+        }
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter.reset();
+
+        TeamSearchDto teamSearchDto = TeamSearchDto.builder().skills(List.of(SkillName.java)).sort(0).size(10).build();
+        TeamListPageResponseDto page = teamService.getTeamList(teamSearchDto);
+
+        // NOTE 팀 수와 관계없이 목록 조회 쿼리 1건으로 DTO를 구성해야 함
+        Assertions.assertThat(page.getTeams()).hasSize(10);
+        Assertions.assertThat(page.getTeams()).allMatch(team -> team.getTeamSkills().contains(SkillName.java));
+        Assertions.assertThat(SqlStatementCounter.current()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("팀 등록 배치 insert 테스트")
+    public void createTeamBatchInsert() {
+        List<SkillName> skillNames = List.of(SkillName.values()).subList(0, 10);
+        for (SkillName skillName : skillNames) {
+            if (entityManager.find(Skill.class, skillName) == null) entityManager.persist(new Skill(skillName));
+        }
+        User user = userRepository.save(User.builder()
+                .role("ROLE_USER")
+                .nickname("배치테스터")
+                .userImage("default")
+                .joinRoot("withMe")
+                .build());
+        // NOTE 첫 시퀀스 조회는 초기값 확인을 위해 두 번 호출되므로 팀을 한 번 등록해서 미리 할당받음
+        saveTeam("배치 테스트 준비", skillNames.subList(0, 1), user);
+        entityManager.flush();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        saveTeam("배치 테스트", skillNames, user);
+        entityManager.flush();
+
+        // NOTE 팀 1 + 팀 스킬 10 + 팀 유저 1 건 insert 가 테이블별 배치로 묶여 스킬 수와 관계없이 구문 수가 일정해야 함
+        //      (테이블별 insert 3 + 할당받은 id 를 다 쓴 경우 시퀀스 조회 최대 3)
+        Assertions.assertThat(statistics.getEntityInsertCount()).isEqualTo(12);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @Transactional
+    @DisplayName("팀 등록 스킬 기준 데이터 테스트")
+    public void createTeamWithSkillCatalog() {
+        // NOTE 시작 시 SkillName 전체가 등록되어 있어야 함
+        Assertions.assertThat(entityManager.createQuery("SELECT COUNT(S) FROM Skill S", Long.class).getSingleResult())
+                .isEqualTo(SkillName.values().length);
+
+        // NOTE 시퀀스를 미리 할당받아 시퀀스 조회 수를 고정
+        teamRepository.save(getSkillCatalogTeamRequestDto("스킬 기준 데이터 준비").setTeamSkill(skillCatalog));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        teamRepository.save(getSkillCatalogTeamRequestDto("스킬 기준 데이터 테스트").setTeamSkill(skillCatalog));
+        entityManager.flush();
+
+        // NOTE 팀 스킬 등록 시 skill 테이블 조회 없음 (팀 insert 1 + 팀 스킬 배치 insert 1 + 할당받은 id 를 다 쓴 경우 시퀀스 조회 최대 2)
+        Assertions.assertThat(statistics.getEntityInsertCount()).isEqualTo(4);
+        Assertions.assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+    }
+
+    CreateTeamRequestDto getSkillCatalogTeamRequestDto(String name) {
+        return CreateTeamRequestDto.builder()
+                .category(TeamCategory.PROJECT)
+                .skills(List.of(SkillName.java, SkillName.spring, SkillName.docker))
+                .name(name)
+                .description("스킬 기준 데이터 테스트입니다.")
+                .build();
+    }
+
+    private void saveTeam(String teamName, List<SkillName> skillNames, User user) {
+        Team team = Team.builder()
+                .teamName(teamName)
+                .teamCategory(TeamCategory.PROJECT)
+                .teamDesc("배치 테스트입니다.")
+                .status(Status.DISPLAYED)
+                .build();
+        skillNames.forEach(skillName -> team.addTeamSkill(new TeamSkill(team, entityManager.getReference(Skill.class, skillName))));
+        team.addTeamUser(TeamUser.builder().memberType(MemberType.LEADER).team(team).user(user).build());
+        teamRepository.save(team);
+    }
+
     // NOTE 검색 조건
     static List<SkillName> getSkillNameList() {
         List<SkillName> skills = new ArrayList<>();
@@ -130,7 +329,7 @@ public class TeamListTest {
         // NOTE 팀 등록 DTO 가져오기
         CreateTeamRequestDto teamRequestDto = getTeamRequestDto();
         // NOTE 팀 DTO 팀 변환
-        Team team = teamRequestDto.setTeamSkill();
+        Team team = teamRequestDto.setTeamSkill(skillCatalog);
 
         Long user_idx = 1L;
 
@@ -0,0 +1,167 @@
+package com.withme.api.service;
+
+import com.withme.api.controller.dto.TeamDetailRecommendReaponseDto;
+import com.withme.api.controller.dto.TeamPostUpdateRequestDto;
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.Status;
+import com.withme.api.domain.team.Team;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamRepository;
+import com.withme.api.domain.teamSkill.TeamSkill;
+import com.withme.api.domain.teamSkill.TeamSkillRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@ActiveProfiles("local")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+public class TeamRecommendTest {
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private TeamRecommendPool teamRecommendPool;
+
+    @Autowired
+    private TeamService teamService;
+
+    @Autowired
+    private TeamSkillIndex teamSkillIndex;
+
+    @Autowired
+    private TeamSkillRepository teamSkillRepository;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @Transactional
+    @DisplayName("추천 팀 풀 샘플링 테스트")
+    public void sampleRecommendTeams() {
+        List<Team> teams = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Team team = Team.builder()
+                    .teamName("추천 테스트 " + i)
+                    .teamCategory(TeamCategory.STUDY)
+                    .teamDesc("추천 테스트입니다.")
+                    .status(Status.DISPLAYED)
+                    .build();
+            team.toTeamByTeamPost("추천 " + i, "추천 테스트");
+            teams.add(teamRepository.save(team));
+        }
+        teamRecommendPool.refresh();
+
+        Long currentTeamId = teams.get(0).getId();
+        for (int i = 0; i < 20; i++) {
+            List<TeamDetailRecommendReaponseDto> recommends = teamRecommendPool.sample(currentTeamId, 5);
+
+            // NOTE 현재 팀은 제외하고 중복 없이 5건
+            List<Long> ids = recommends.stream().map(TeamDetailRecommendReaponseDto::getId).collect(Collectors.toList());
+            Assertions.assertThat(ids).hasSize(5).doesNotHaveDuplicates().doesNotContain(currentTeamId);
+        }
+
+        // NOTE 같은 스냅샷에서는 같은 추천 결과 (팀 상세 ETag 에 포함)
+        Assertions.assertThat(teamRecommendPool.sample(currentTeamId, 5))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(teamRecommendPool.sample(currentTeamId, 5));
+    }
+
+    @Test
+    @DisplayName("팀 스킬 유사도 인덱스 테스트")
+    public void findSimilarTeamsBySkills() {
+        TeamSkillIndex teamSkillIndex = new TeamSkillIndex();
+        teamSkillIndex.put(1L, "자바 스프링", SkillName.toBitmask(List.of(SkillName.java, SkillName.spring)), true);
+        teamSkillIndex.put(2L, "자바 스프링 도커", SkillName.toBitmask(List.of(SkillName.java, SkillName.spring, SkillName.docker)), true);
+        teamSkillIndex.put(3L, "자바", SkillName.toBitmask(List.of(SkillName.java)), true);
+        teamSkillIndex.put(4L, "뷰", SkillName.toBitmask(List.of(SkillName.vue)), true);
+        teamSkillIndex.put(5L, "자바 스프링 (모집마감)", SkillName.toBitmask(List.of(SkillName.java, SkillName.spring)), false);
+
+        // NOTE Jaccard 순 (2: 2/3, 3: 1/2), 스킬이 겹치지 않거나 게시중이 아닌 팀은 제외
+        List<Long> ids = teamSkillIndex.findSimilar(1L, 5).stream()
+                .map(TeamDetailRecommendReaponseDto::getId)
+                .collect(Collectors.toList());
+        Assertions.assertThat(ids).containsExactly(2L, 3L);
+
+        // NOTE 팀 수정 시 스킬/게시 상태 반영
+        teamSkillIndex.put(5L, "자바 스프링", SkillName.toBitmask(List.of(SkillName.java, SkillName.spring)), true);
+        teamSkillIndex.put(2L, "뷰 도커", SkillName.toBitmask(List.of(SkillName.vue, SkillName.docker)), true);
+        ids = teamSkillIndex.findSimilar(1L, 2).stream()
+                .map(TeamDetailRecommendReaponseDto::getId)
+                .collect(Collectors.toList());
+        Assertions.assertThat(ids).containsExactly(5L, 3L);
+
+        // NOTE 삭제된 팀 제외, 빈 슬롯 압축 후에도 같은 유사도는 나중에 등록된 팀 우선
+        teamSkillIndex.remove(2L);
+        teamSkillIndex.remove(4L);
+        teamSkillIndex.remove(3L);
+        teamSkillIndex.put(6L, "자바 스프링 2", SkillName.toBitmask(List.of(SkillName.java, SkillName.spring)), true);
+        ids = teamSkillIndex.findSimilar(1L, 5).stream()
+                .map(TeamDetailRecommendReaponseDto::getId)
+                .collect(Collectors.toList());
+        Assertions.assertThat(ids).containsExactly(6L, 5L);
+        Assertions.assertThat(teamSkillIndex.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("팀 게시/삭제 시 스킬 유사도 인덱스 반영 테스트")
+    public void updateSkillIndexOnTeamChange() {
+        Long teamId = saveTeamWithSkills("인덱스 반영 A");
+        Long otherTeamId = saveTeamWithSkills("인덱스 반영 B");
+
+        // NOTE 게시 상태 변경은 엔티티 수정 이벤트로 커밋 이후 반영
+        TeamPostUpdateRequestDto dto = new TeamPostUpdateRequestDto();
+        dto.setTitle("인덱스 반영");
+        dto.setContent("인덱스 반영 테스트입니다.");
+        teamService.teamPostUpdate(dto, teamId);
+        teamService.teamPostUpdate(dto, otherTeamId);
+        Assertions.assertThat(teamSkillIndex.findSimilar(teamId, 100))
+                .extracting(TeamDetailRecommendReaponseDto::getId)
+                .contains(otherTeamId);
+
+        // NOTE 삭제는 엔티티 삭제 이벤트로 커밋 이후 제거
+        deleteTeam(otherTeamId);
+        Assertions.assertThat(teamSkillIndex.findSimilar(teamId, 100))
+                .extracting(TeamDetailRecommendReaponseDto::getId)
+                .doesNotContain(otherTeamId);
+        deleteTeam(teamId);
+        Assertions.assertThat(teamSkillIndex.findSimilar(teamId, 100)).isEmpty();
+    }
+
+    private Long saveTeamWithSkills(String teamName) {
+        return transactionTemplate.execute(status -> {
+            Team team = Team.builder()
+                    .teamName(teamName)
+                    .teamCategory(TeamCategory.STUDY)
+                    .teamDesc("인덱스 반영 테스트입니다.")
+                    .status(Status.HIDDEN)
+                    .build();
+            skillCatalog.getAll(List.of(SkillName.kotlin, SkillName.ruby))
+                    .forEach(skill -> team.addTeamSkill(new TeamSkill(team, skill)));
+            return teamRepository.save(team).getId();
+        });
+    }
+
+    private void deleteTeam(Long teamId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Team team = teamRepository.findById(teamId).orElseThrow();
+            teamSkillRepository.deleteAll(team.getTeamSkills());
+            teamRepository.delete(team);
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.withme.api.service;
+
+import com.withme.api.domain.skill.SkillName;
+import com.withme.api.domain.team.TeamCategory;
+import com.withme.api.domain.team.TeamSkillMatch;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TeamSearchIndexTest {
+
+    private TeamSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new TeamSearchIndex("");
+        index.put(1L, "자바 스터디", "스프링 부트 스터디원 모집", "매주 토요일 스프링 공부", null, TeamCategory.STUDY
+                , SkillName.toBitmask(List.of(SkillName.java, SkillName.spring)));
+        index.put(2L, "뷰 프로젝트", "프론트엔드 개발자 모집", "뷰로 만드는 사이드 프로젝트", "스프링 백엔드와 연동합니다.", TeamCategory.PROJECT
+                , SkillName.toBitmask(List.of(SkillName.vue)));
+        index.put(3L, "알고리즘 스터디", "코딩 테스트 준비", "파이썬으로 문제 풀이", null, TeamCategory.STUDY
+                , SkillName.toBitmask(List.of(SkillName.python)));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("형태소 단위 검색, 팀 이름/제목에 나온 팀이 먼저 조회")
+    public void searchByRelevance() {
+        // NOTE "스프링을" 은 "스프링" 으로 분석되어 조사가 붙어도 검색
+        TeamSearchIndex.Page page = index.search("스프링을", null, 0L, TeamSkillMatch.ANY, null, 10);
+        Assertions.assertThat(page.getTeamIds()).containsExactly(1L, 2L);
+        Assertions.assertThat(page.getNextCursor()).isNull();
+
+        Assertions.assertThat(index.search("스터디", TeamCategory.STUDY, SkillName.python.getMask(), TeamSkillMatch.ANY, null, 10).getTeamIds())
+                .containsExactly(3L);
+        Assertions.assertThat(index.search("스프링", null, SkillName.toBitmask(List.of(SkillName.java, SkillName.vue)), TeamSkillMatch.ALL, null, 10).getTeamIds())
+                .isEmpty();
+        Assertions.assertThat(index.search("은", null, 0L, TeamSkillMatch.ANY, null, 10).getTeamIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정/삭제 즉시 반영, 커서로 중복 없이 다음 페이지 조회")
+    public void updateAndPaging() {
+        index.put(3L, "알고리즘 스터디", "스프링 면접 준비", null, null, TeamCategory.STUDY, 0L);
+        index.delete(2L);
+
+        List<Long> visited = new ArrayList<>();
+        String cursor = null;
+        do {
+            TeamSearchIndex.Page page = index.search("스프링", null, 0L, TeamSkillMatch.ANY, cursor, 1);
+            visited.addAll(page.getTeamIds());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        Assertions.assertThat(visited).containsExactlyInAnyOrder(1L, 3L);
+
+        Assertions.assertThatThrownBy(() -> index.search("스프링", null, 0L, TeamSkillMatch.ANY, "잘못된커서", 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재구성 중에는 이전 색인으로 검색, 재구성 완료 후 함께 반영")
+    public void rebuildKeepsPreviousSearcher() {
+        index.beginRebuild();
+        index.add(1L, "자바 스터디", "스프링 부트 스터디원 모집", null, null, TeamCategory.STUDY, 0L);
+        // NOTE 재구성 중 들어온 변경, 주기 커밋도 검색 대상을 바꾸지 않음
+        index.put(4L, "코틀린 스터디", "스프링 코틀린", null, null, TeamCategory.STUDY, 0L);
+        index.commit();
+        Assertions.assertThat(index.search("스프링", null, 0L, TeamSkillMatch.ANY, null, 10).getTeamIds())
+                .containsExactlyInAnyOrder(1L, 2L);
+
+        index.endRebuild();
+        Assertions.assertThat(index.search("스프링", null, 0L, TeamSkillMatch.ANY, null, 10).getTeamIds())
+                .containsExactlyInAnyOrder(1L, 4L);
+    }
+}
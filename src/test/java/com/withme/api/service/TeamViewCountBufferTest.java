@@ -0,0 +1,51 @@
+package com.withme.api.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TeamViewCountBufferTest {
+
+    @Test
+    @DisplayName("조회수 반영 일부 실패 시 실패한 묶음만 다시 대기 테스트")
+    public void requeueFailedChunkOnly() {
+        JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+        AtomicReference<TeamViewCountBuffer> bufferRef = new AtomicReference<>();
+        Mockito.when(jdbcTemplate.batchUpdate(ArgumentMatchers.anyString(), ArgumentMatchers.<List<Object[]>>any()))
+                .thenAnswer(invocation -> {
+                    List<Object[]> chunk = invocation.getArgument(1);
+                    // NOTE 커밋 전에는 꺼낸 조회수도 대기 조회수에 포함
+                    Assertions.assertThat(bufferRef.get().getPending((Long) chunk.get(0)[1])).isEqualTo((Long) chunk.get(0)[0]);
+                    // NOTE 2번 팀 묶음만 실패
+                    if (chunk.get(0)[1].equals(2L)) throw new QueryTimeoutException("조회수 반영 실패");
+                    return new int[]{1};
+                });
+        TeamViewCountBuffer buffer = new TeamViewCountBuffer(jdbcTemplate
+                , new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class))
+                , Mockito.mock(ApplicationEventPublisher.class), 1);
+        bufferRef.set(buffer);
+
+        for (int i = 0; i < 3; i++) buffer.increase(1L);
+        for (int i = 0; i < 2; i++) buffer.increase(2L);
+        buffer.flush();
+
+        // NOTE 반영된 팀은 다시 더하지 않고, 실패한 팀만 다음 flush 로 넘어감
+        Assertions.assertThat(buffer.getPending(1L)).isEqualTo(0);
+        Assertions.assertThat(buffer.getPending(2L)).isEqualTo(2);
+
+        // NOTE 조회가 없던 팀은 다음 flush 에서 제거되고, 이후 조회는 다시 쌓임
+        buffer.flush();
+        buffer.increase(1L);
+        Assertions.assertThat(buffer.getPending(1L)).isEqualTo(1);
+    }
+}
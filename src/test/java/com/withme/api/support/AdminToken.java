@@ -0,0 +1,37 @@
+package com.withme.api.support;
+
+import com.withme.api.domain.user.User;
+import com.withme.api.jwt.TokenProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 관리자 전용 요청(actuator 등) 테스트용 토큰
+ */
+public final class AdminToken {
+
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private AdminToken() {
+    }
+
+    public static User newAdmin(String nickname) {
+        return User.builder()
+                .role(ROLE_ADMIN)
+                .nickname(nickname)
+                .userImage("default")
+                .joinRoot("withMe")
+                .build();
+    }
+
+    /**
+     * 저장된 관리자 회원의 Authorization 헤더 값 ("Bearer " + 토큰)
+     * */
+    public static String of(TokenProvider tokenProvider, User admin) {
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                admin.getNickname(), null, List.of(new SimpleGrantedAuthority(admin.getRole())));
+        return "Bearer " + tokenProvider.createToken(authentication, admin.getId());
+    }
+}
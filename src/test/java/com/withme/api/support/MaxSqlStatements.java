@@ -0,0 +1,20 @@
+package com.withme.api.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메소드 실행 중 SQL 실행 수 상한 (N+1 회귀 방지)
+ * NOTE 테스트 데이터 준비 쿼리는 SqlStatementCounter.reset() 으로 제외
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(SqlStatementCountExtension.class)
+public @interface MaxSqlStatements {
+
+    int value();
+}
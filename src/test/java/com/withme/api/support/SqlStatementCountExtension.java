@@ -0,0 +1,28 @@
+package com.withme.api.support;
+
+import com.withme.api.config.SqlStatementCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+/**
+ * @MaxSqlStatements 가 붙은 테스트의 SQL 실행 수를 집계해 상한을 넘으면 실패 처리
+ */
+public class SqlStatementCountExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        SqlStatementCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        int count = SqlStatementCounter.stop();
+        AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxSqlStatements.class).ifPresent(max -> {
+            if (count > max.value()) {
+                throw new AssertionError(String.format("SQL 실행 수 초과 : %d건 (최대 %d건) - %s", count, max.value(), context.getDisplayName()));
+            }
+        });
+    }
+}